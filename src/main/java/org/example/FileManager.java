@@ -1,5 +1,7 @@
 package org.example;
 
+import org.example.algorithms.Landmarks;
+import org.example.graph.GraphSnapshot;
 import org.example.graph.Vertex;
 import org.example.graph.Connection;
 import org.example.ui.GraphPanel;
@@ -82,6 +84,12 @@ public class FileManager {
                     ));
                     writer.newLine();
                 }
+
+                // Marcos ALT do mesmo grafo vão para o arquivo .alt ao lado
+                Landmarks landmarks = graphPanel.getLandmarks();
+                if (landmarks != null && landmarks.matches(GraphSnapshot.of(vertices, connections))) {
+                    landmarks.save(Landmarks.sidecarOf(fileToSave));
+                }
                 
                 JOptionPane.showMessageDialog(
                     ui,
@@ -170,7 +178,7 @@ public class FileManager {
                                 }
 
                                 // Create vertex directly without dialog
-                                graphPanel.getVertexList().add(vertex);
+                                graphPanel.addVertex(vertex);
                             }
                         }
                     }
@@ -193,8 +201,8 @@ public class FileManager {
                                 double weight = Double.parseDouble(parts[3]);
 
                                 // Find source and target vertices
-                                Vertex source = findVertexById(graphPanel, sourceId);
-                                Vertex target = findVertexById(graphPanel, targetId);
+                                Vertex source = graphPanel.findVertexById(sourceId);
+                                Vertex target = graphPanel.findVertexById(targetId);
 
                                 if (source != null && target != null) {
                                     graphPanel.addConnection(connectionId, source, target, weight);
@@ -204,6 +212,8 @@ public class FileManager {
                     }
                 }
                 
+                loadLandmarks(graphPanel, fileToOpen);
+
                 // Repaint the panel
                 graphPanel.repaint();
                 
@@ -233,13 +243,19 @@ public class FileManager {
             }
         }
     }
-    
-    private Vertex findVertexById(GraphPanel graphPanel, String id) {
-        for (Vertex vertex : graphPanel.getVertexList()) {
-            if (vertex.getId().equals(id)) {
-                return vertex;
-            }
+
+    // Lê o arquivo .alt ao lado do .graph, se existir e ainda corresponder ao grafo
+    private void loadLandmarks(GraphPanel graphPanel, File graphFile) {
+        File altFile = Landmarks.sidecarOf(graphFile);
+        if (!altFile.exists()) {
+            return;
+        }
+        try {
+            GraphSnapshot graph = GraphSnapshot.of(graphPanel.getVertexList(), graphPanel.getConnectionList());
+            graphPanel.setLandmarks(Landmarks.load(altFile, graph));
+        } catch (IOException e) {
+            // Arquivo desatualizado ou inválido: o A* segue sem marcos
+            e.printStackTrace();
         }
-        return null;
     }
 }
@@ -0,0 +1,232 @@
+package org.example.algorithms;
+
+import org.example.graph.GraphSnapshot;
+import org.example.graph.Vertex;
+
+import java.util.Arrays;
+
+/**
+ * Motor de busca A* sem interface gráfica, sobre ids de vértice de um GraphSnapshot.
+ * Custos g ficam em vetores primitivos e a lista aberta é um heap indexado com
+ * decrease-key, chaveado por f = g + h.
+ *
+ * Uma instância atende muitas consultas seguidas no mesmo grafo: os vetores são
+ * reaproveitados e marcados com o número da consulta, então cada consulta custa só o
+ * que ela própria visita, sem reinicializar O(V).
+ *
+ * Com heurística inconsistente um vértice já fechado pode ser reaberto quando se acha
+ * um caminho melhor até ele, como no laço original do GraphPanel.
+ */
+public class AStar {
+
+    /** Estimativa do custo restante de vertex até target. */
+    public interface Heuristic {
+        double estimate(int vertex, int target);
+    }
+
+    private final GraphSnapshot graph;
+    private Heuristic heuristic;
+
+    private final double[] g;
+    private final int[] parent;
+    private final int[] parentConnection;
+    private final int[] version;
+    private final IndexedMinHeap open;
+    private int query = 0;
+
+    public AStar(GraphSnapshot graph) {
+        this(graph, manhattan(graph));
+    }
+
+    public AStar(GraphSnapshot graph, Heuristic heuristic) {
+        this.graph = graph;
+        this.heuristic = heuristic;
+        int n = graph.getVertexCount();
+        g = new double[n];
+        parent = new int[n];
+        parentConnection = new int[n];
+        version = new int[n];
+        open = new IndexedMinHeap(n);
+    }
+
+    public static PathResult findPath(GraphSnapshot graph, Vertex source, Vertex target) {
+        return new AStar(graph).findPath(source, target);
+    }
+
+    public GraphSnapshot getGraph() {
+        return graph;
+    }
+
+    public void setHeuristic(Heuristic heuristic) {
+        this.heuristic = heuristic;
+    }
+
+    public PathResult findPath(Vertex source, Vertex target) {
+        int s = graph.indexOf(source);
+        int t = graph.indexOf(target);
+        if (s < 0 || t < 0) {
+            throw new IllegalArgumentException("Vértice fora do grafo.");
+        }
+        return findPath(s, t);
+    }
+
+    public PathResult findPath(int source, int target) {
+        nextQuery();
+        open.clear();
+
+        g[source] = 0.0;
+        parent[source] = -1;
+        parentConnection[source] = -1;
+        version[source] = query;
+        open.insert(source, heuristic.estimate(source, target));
+        int settled = 0;
+
+        while (!open.isEmpty()) {
+            int u = open.poll();
+            settled++;
+
+            if (u == target) {
+                return buildPath(source, target, settled);
+            }
+
+            double gu = g[u];
+            for (int arc = graph.outBegin(u), end = graph.outEnd(u); arc < end; arc++) {
+                int w = graph.outTarget(arc);
+                double tentative = gu + graph.outWeight(arc);
+
+                if (version[w] != query || tentative < g[w]) {
+                    version[w] = query;
+                    g[w] = tentative;
+                    parent[w] = u;
+                    parentConnection[w] = graph.outConnection(arc);
+                    open.insertOrDecrease(w, tentative + heuristic.estimate(w, target));
+                }
+            }
+        }
+
+        return PathResult.notFound(graph, source, target, settled);
+    }
+
+    // Custo g do vértice na última consulta (infinito se não foi alcançado)
+    public double getCost(int vertex) {
+        return version[vertex] == query ? g[vertex] : Double.POSITIVE_INFINITY;
+    }
+
+    private void nextQuery() {
+        if (++query == Integer.MAX_VALUE) {
+            Arrays.fill(version, 0);
+            query = 1;
+        }
+    }
+
+    private PathResult buildPath(int source, int target, int settled) {
+        int length = 0;
+        for (int v = target; v != source; v = parent[v]) {
+            length++;
+        }
+
+        int[] connections = new int[length];
+        for (int v = target; v != source; v = parent[v]) {
+            connections[--length] = parentConnection[v];
+        }
+        return new PathResult(graph, source, target, connections, g[target], settled);
+    }
+
+    // --- Heurísticas ---
+
+    public static Heuristic zero() {
+        return (vertex, target) -> 0.0;
+    }
+
+    /**
+     * Distância de Manhattan usada na tela: em km pelas coordenadas geográficas (1 grau ≈
+     * 111 km) quando os dois vértices as têm, senão pelas coordenadas da tela.
+     */
+    public static double manhattanDistance(Vertex a, Vertex b) {
+        if (a.hasGeographicCoordinates() && b.hasGeographicCoordinates()) {
+            double latDiff = Math.abs(a.getLatitude() - b.getLatitude()) * 111.0;
+            double lonDiff = Math.abs(a.getLongitude() - b.getLongitude()) * 111.0;
+            return latDiff + lonDiff;
+        }
+        return Math.abs(a.getX() - b.getX()) + Math.abs(a.getY() - b.getY());
+    }
+
+    // Mesma estimativa de manhattanDistance, com as coordenadas copiadas para vetores
+    public static Heuristic manhattan(GraphSnapshot graph) {
+        int n = graph.getVertexCount();
+        boolean[] geographic = new boolean[n];
+        double[] latitude = new double[n];
+        double[] longitude = new double[n];
+        int[] x = new int[n];
+        int[] y = new int[n];
+        for (int v = 0; v < n; v++) {
+            Vertex vertex = graph.getVertex(v);
+            geographic[v] = vertex.hasGeographicCoordinates();
+            if (geographic[v]) {
+                latitude[v] = vertex.getLatitude();
+                longitude[v] = vertex.getLongitude();
+            }
+            x[v] = vertex.getX();
+            y[v] = vertex.getY();
+        }
+
+        return (vertex, target) -> {
+            if (geographic[vertex] && geographic[target]) {
+                return Math.abs(latitude[vertex] - latitude[target]) * 111.0
+                        + Math.abs(longitude[vertex] - longitude[target]) * 111.0;
+            }
+            return Math.abs(x[vertex] - x[target]) + Math.abs(y[vertex] - y[target]);
+        };
+    }
+
+    // Raio médio da Terra, em km
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    /**
+     * Distância em linha reta: ortodrômica (haversine, em km) quando os dois vértices têm
+     * coordenadas geográficas, senão euclidiana na tela. Ao contrário da Manhattan, é
+     * consistente sempre que cada ligação pesa ao menos a distância entre suas pontas
+     * (estradas em km, por exemplo), o que a busca bidirecional exige.
+     */
+    public static double straightLineDistance(Vertex a, Vertex b) {
+        if (a.hasGeographicCoordinates() && b.hasGeographicCoordinates()) {
+            return haversine(Math.toRadians(a.getLatitude()), Math.toRadians(a.getLongitude()),
+                    Math.toRadians(b.getLatitude()), Math.toRadians(b.getLongitude()));
+        }
+        return Math.hypot(a.getX() - b.getX(), a.getY() - b.getY());
+    }
+
+    // Mesma estimativa de straightLineDistance, com as coordenadas em radianos em vetores
+    public static Heuristic straightLine(GraphSnapshot graph) {
+        int n = graph.getVertexCount();
+        boolean[] geographic = new boolean[n];
+        double[] latitude = new double[n];
+        double[] longitude = new double[n];
+        int[] x = new int[n];
+        int[] y = new int[n];
+        for (int v = 0; v < n; v++) {
+            Vertex vertex = graph.getVertex(v);
+            geographic[v] = vertex.hasGeographicCoordinates();
+            if (geographic[v]) {
+                latitude[v] = Math.toRadians(vertex.getLatitude());
+                longitude[v] = Math.toRadians(vertex.getLongitude());
+            }
+            x[v] = vertex.getX();
+            y[v] = vertex.getY();
+        }
+
+        return (vertex, target) -> {
+            if (geographic[vertex] && geographic[target]) {
+                return haversine(latitude[vertex], longitude[vertex], latitude[target], longitude[target]);
+            }
+            return Math.hypot(x[vertex] - x[target], y[vertex] - y[target]);
+        };
+    }
+
+    private static double haversine(double lat1, double lon1, double lat2, double lon2) {
+        double sinLat = Math.sin((lat2 - lat1) / 2);
+        double sinLon = Math.sin((lon2 - lon1) / 2);
+        double h = sinLat * sinLat + Math.cos(lat1) * Math.cos(lat2) * sinLon * sinLon;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(h)));
+    }
+}
@@ -0,0 +1,183 @@
+package org.example.algorithms;
+
+import org.example.graph.GraphSnapshot;
+import org.example.graph.Vertex;
+
+import java.util.Arrays;
+
+/**
+ * Caminho mínimo ponto a ponto por Dijkstra bidirecional: uma busca parte da origem
+ * pelos arcos de saída, outra do destino pelos arcos de entrada, e a cada passo avança
+ * o lado com a fila menor. μ guarda o melhor caminho já visto passando por um vértice
+ * alcançado pelos dois lados, e a busca para quando topo(frente) + topo(trás) ≥ μ.
+ *
+ * Com heurística vira A* bidirecional, usando o potencial médio
+ * p(v) = (h(v, destino) - h(origem, v)) / 2 para a frente e -p(v) para trás. Os dois
+ * lados ficam com custos reduzidos não negativos e o mesmo critério de parada continua
+ * exato, desde que a heurística seja consistente (AStar.straightLine em grafos de
+ * estradas, por exemplo).
+ *
+ * Como no AStar, uma instância atende muitas consultas sem reinicializar os vetores.
+ */
+public class BidirectionalDijkstra {
+    private static final int FORWARD = 0;
+    private static final int BACKWARD = 1;
+
+    private final GraphSnapshot graph;
+    private final AStar.Heuristic heuristic;
+
+    // Índice 0 = busca a partir da origem, 1 = a partir do destino
+    private final double[][] distance = new double[2][];
+    private final int[][] parent = new int[2][];
+    private final int[][] parentConnection = new int[2][];
+    private final int[][] reached = new int[2][];
+    private final IndexedMinHeap[] queue = new IndexedMinHeap[2];
+
+    private final double[] potential;
+    private final int[] potentialVersion;
+    private int query = 0;
+
+    private int source;
+    private int target;
+
+    /** Dijkstra bidirecional, sem heurística. */
+    public BidirectionalDijkstra(GraphSnapshot graph) {
+        this(graph, null);
+    }
+
+    /** A* bidirecional com a heurística dada (null = Dijkstra). */
+    public BidirectionalDijkstra(GraphSnapshot graph, AStar.Heuristic heuristic) {
+        this.graph = graph;
+        this.heuristic = heuristic;
+        int n = graph.getVertexCount();
+        for (int side = 0; side < 2; side++) {
+            distance[side] = new double[n];
+            parent[side] = new int[n];
+            parentConnection[side] = new int[n];
+            reached[side] = new int[n];
+            queue[side] = new IndexedMinHeap(n);
+        }
+        potential = heuristic != null ? new double[n] : null;
+        potentialVersion = heuristic != null ? new int[n] : null;
+    }
+
+    /** A* bidirecional com a distância em linha reta das coordenadas dos vértices. */
+    public static BidirectionalDijkstra aStar(GraphSnapshot graph) {
+        return new BidirectionalDijkstra(graph, AStar.straightLine(graph));
+    }
+
+    public PathResult findPath(Vertex source, Vertex target) {
+        int s = graph.indexOf(source);
+        int t = graph.indexOf(target);
+        if (s < 0 || t < 0) {
+            throw new IllegalArgumentException("Vértice fora do grafo.");
+        }
+        return findPath(s, t);
+    }
+
+    public PathResult findPath(int source, int target) {
+        this.source = source;
+        this.target = target;
+        if (++query == Integer.MAX_VALUE) {
+            for (int side = 0; side < 2; side++) {
+                Arrays.fill(reached[side], 0);
+            }
+            if (potentialVersion != null) {
+                Arrays.fill(potentialVersion, 0);
+            }
+            query = 1;
+        }
+
+        queue[FORWARD].clear();
+        queue[BACKWARD].clear();
+        open(FORWARD, source);
+        open(BACKWARD, target);
+
+        double best = source == target ? 0.0 : Double.POSITIVE_INFINITY;
+        int meeting = source == target ? source : -1;
+        int settled = 0;
+
+        while (!queue[FORWARD].isEmpty() && !queue[BACKWARD].isEmpty()) {
+            // Critério de parada; com o potencial médio as constantes se cancelam
+            if (queue[FORWARD].peekKey() + queue[BACKWARD].peekKey() >= best) {
+                break;
+            }
+
+            int side = queue[FORWARD].size() <= queue[BACKWARD].size() ? FORWARD : BACKWARD;
+            int other = 1 - side;
+            int u = queue[side].poll();
+            settled++;
+
+            double du = distance[side][u];
+            boolean forward = side == FORWARD;
+            int begin = forward ? graph.outBegin(u) : graph.inBegin(u);
+            int end = forward ? graph.outEnd(u) : graph.inEnd(u);
+
+            for (int arc = begin; arc < end; arc++) {
+                int w = forward ? graph.outTarget(arc) : graph.inSource(arc);
+                double candidate = du + (forward ? graph.outWeight(arc) : graph.inWeight(arc));
+
+                if (reached[side][w] != query || candidate < distance[side][w]) {
+                    reached[side][w] = query;
+                    distance[side][w] = candidate;
+                    parent[side][w] = u;
+                    parentConnection[side][w] = forward ? graph.outConnection(arc) : graph.inConnection(arc);
+                    queue[side].insertOrDecrease(w, candidate + sidePotential(side, w));
+
+                    if (reached[other][w] == query && candidate + distance[other][w] < best) {
+                        best = candidate + distance[other][w];
+                        meeting = w;
+                    }
+                }
+            }
+        }
+
+        if (meeting < 0) {
+            return PathResult.notFound(graph, source, target, settled);
+        }
+        return new PathResult(graph, source, target, buildPath(meeting), best, settled);
+    }
+
+    private void open(int side, int v) {
+        reached[side][v] = query;
+        distance[side][v] = 0.0;
+        parent[side][v] = -1;
+        parentConnection[side][v] = -1;
+        queue[side].insert(v, sidePotential(side, v));
+    }
+
+    // Potencial médio para a frente; o oposto para trás
+    private double sidePotential(int side, int v) {
+        if (heuristic == null) {
+            return 0.0;
+        }
+        if (potentialVersion[v] != query) {
+            potentialVersion[v] = query;
+            potential[v] = (heuristic.estimate(v, target) - heuristic.estimate(source, v)) / 2;
+        }
+        return side == FORWARD ? potential[v] : -potential[v];
+    }
+
+    // Ligações da origem até o encontro (pais da frente) e dele até o destino (pais de trás)
+    private int[] buildPath(int meeting) {
+        int forwardLength = 0;
+        for (int v = meeting; v != source; v = parent[FORWARD][v]) {
+            forwardLength++;
+        }
+        int backwardLength = 0;
+        for (int v = meeting; v != target; v = parent[BACKWARD][v]) {
+            backwardLength++;
+        }
+
+        int[] connections = new int[forwardLength + backwardLength];
+        int pos = forwardLength;
+        for (int v = meeting; v != source; v = parent[FORWARD][v]) {
+            connections[--pos] = parentConnection[FORWARD][v];
+        }
+        pos = forwardLength;
+        for (int v = meeting; v != target; v = parent[BACKWARD][v]) {
+            connections[pos++] = parentConnection[BACKWARD][v];
+        }
+        return connections;
+    }
+}
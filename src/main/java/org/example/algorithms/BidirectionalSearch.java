@@ -0,0 +1,260 @@
+package org.example.algorithms;
+
+import org.example.graph.Connection;
+import org.example.graph.GraphSnapshot;
+import org.example.graph.Vertex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consultas ponto a ponto (existe caminho? qual o menor em número de ligações?) por busca
+ * em largura bidirecional: uma busca parte da origem pelos arcos de saída, outra do destino
+ * pelos arcos de entrada, e a cada passo avança um nível inteiro do lado com a fronteira
+ * menor. A consulta termina assim que as buscas se encontram, e o caminho é montado em O(L).
+ *
+ * A versão sobre objetos usa as listas de incidência dos vértices, sem montar nenhuma
+ * estrutura do grafo inteiro; arestas são percorridas nos dois sentidos e arcos apenas no
+ * seu sentido, como em BreadthFirstSearch.performBFS.
+ */
+public class BidirectionalSearch {
+
+    public static boolean hasPath(Vertex source, Vertex target) {
+        return meet(source, target, true) != null;
+    }
+
+    /** Menor caminho em número de ligações, de source a target; lista vazia se não houver. */
+    public static List<Vertex> findShortestPath(Vertex source, Vertex target) {
+        Meeting meeting = meet(source, target, false);
+        if (meeting == null) {
+            return new ArrayList<>();
+        }
+
+        List<Vertex> path = new ArrayList<>();
+        for (Vertex v = meeting.vertex; v != null; v = meeting.forwardParents.get(v)) {
+            path.add(v);
+        }
+        Collections.reverse(path);
+        for (Vertex v = meeting.backwardParents.get(meeting.vertex); v != null; v = meeting.backwardParents.get(v)) {
+            path.add(v);
+        }
+        return path;
+    }
+
+    // --- Sobre objetos --------------------------------------------------
+
+    private static class Meeting {
+        final Vertex vertex;
+        final Map<Vertex, Vertex> forwardParents;
+        final Map<Vertex, Vertex> backwardParents;
+
+        Meeting(Vertex vertex, Map<Vertex, Vertex> forwardParents, Map<Vertex, Vertex> backwardParents) {
+            this.vertex = vertex;
+            this.forwardParents = forwardParents;
+            this.backwardParents = backwardParents;
+        }
+    }
+
+    /**
+     * Encontro das duas buscas no ponto que minimiza o comprimento total. Com firstMeeting
+     * a busca para no primeiro encontro (basta para saber se existe caminho).
+     */
+    private static Meeting meet(Vertex source, Vertex target, boolean firstMeeting) {
+        if (source == null || target == null) {
+            return null;
+        }
+
+        // Pais (null na raiz) e distâncias de cada lado
+        Map<Vertex, Vertex> forwardParents = new HashMap<>();
+        Map<Vertex, Vertex> backwardParents = new HashMap<>();
+        Map<Vertex, Integer> forwardDistance = new HashMap<>();
+        Map<Vertex, Integer> backwardDistance = new HashMap<>();
+        forwardParents.put(source, null);
+        forwardDistance.put(source, 0);
+        backwardParents.put(target, null);
+        backwardDistance.put(target, 0);
+
+        if (source == target) {
+            return new Meeting(source, forwardParents, backwardParents);
+        }
+
+        List<Vertex> forwardFrontier = new ArrayList<>(List.of(source));
+        List<Vertex> backwardFrontier = new ArrayList<>(List.of(target));
+
+        while (!forwardFrontier.isEmpty() && !backwardFrontier.isEmpty()) {
+            boolean forward = forwardFrontier.size() <= backwardFrontier.size();
+            List<Vertex> frontier = forward ? forwardFrontier : backwardFrontier;
+            Map<Vertex, Vertex> parents = forward ? forwardParents : backwardParents;
+            Map<Vertex, Integer> distance = forward ? forwardDistance : backwardDistance;
+            Map<Vertex, Integer> otherDistance = forward ? backwardDistance : forwardDistance;
+
+            List<Vertex> next = new ArrayList<>();
+            Vertex best = null;
+            int bestLength = Integer.MAX_VALUE;
+
+            for (Vertex u : frontier) {
+                int nextDistance = distance.get(u) + 1;
+                for (Connection connection : u.getIncidentConnections()) {
+                    Vertex w = forward ? forwardNeighbour(connection, u) : backwardNeighbour(connection, u);
+                    if (w == null || parents.containsKey(w)) continue;
+
+                    parents.put(w, u);
+                    distance.put(w, nextDistance);
+                    next.add(w);
+
+                    Integer other = otherDistance.get(w);
+                    if (other != null && nextDistance + other < bestLength) {
+                        best = w;
+                        bestLength = nextDistance + other;
+                        if (firstMeeting) {
+                            return new Meeting(best, forwardParents, backwardParents);
+                        }
+                    }
+                }
+            }
+
+            // Completa o nível antes de decidir: o melhor encontro pode vir de outro vértice
+            if (best != null) {
+                return new Meeting(best, forwardParents, backwardParents);
+            }
+
+            if (forward) {
+                forwardFrontier = next;
+            } else {
+                backwardFrontier = next;
+            }
+        }
+
+        return null;
+    }
+
+    // Vizinho de u ao seguir a ligação no seu sentido
+    private static Vertex forwardNeighbour(Connection connection, Vertex u) {
+        if (connection.getSource() == u) return connection.getTarget();
+        return connection.isDirected() ? null : connection.getSource();
+    }
+
+    // Vizinho de u ao seguir a ligação no sentido contrário
+    private static Vertex backwardNeighbour(Connection connection, Vertex u) {
+        if (connection.getTarget() == u) return connection.getSource();
+        return connection.isDirected() ? null : connection.getTarget();
+    }
+
+    // --- Sobre GraphSnapshot --------------------------------------------
+
+    public static boolean hasPath(GraphSnapshot graph, int source, int target) {
+        return findShortestPath(graph, source, target, true) != null;
+    }
+
+    public static List<Vertex> findShortestPath(GraphSnapshot graph, Vertex source, Vertex target) {
+        int s = graph.indexOf(source);
+        int t = graph.indexOf(target);
+        if (s < 0 || t < 0) {
+            return new ArrayList<>();
+        }
+
+        int[] ids = findShortestPath(graph, s, t);
+        List<Vertex> path = new ArrayList<>(ids != null ? ids.length : 0);
+        if (ids != null) {
+            for (int id : ids) {
+                path.add(graph.getVertex(id));
+            }
+        }
+        return path;
+    }
+
+    /** Ids dos vértices do menor caminho de source a target, ou null se não houver. */
+    public static int[] findShortestPath(GraphSnapshot graph, int source, int target) {
+        return findShortestPath(graph, source, target, false);
+    }
+
+    private static int[] findShortestPath(GraphSnapshot graph, int source, int target, boolean firstMeeting) {
+        if (source == target) {
+            return new int[]{source};
+        }
+
+        int n = graph.getVertexCount();
+        int[] forwardDistance = new int[n];
+        int[] backwardDistance = new int[n];
+        int[] forwardParent = new int[n];
+        int[] backwardParent = new int[n];
+        Arrays.fill(forwardDistance, -1);
+        Arrays.fill(backwardDistance, -1);
+
+        // Cada lado guarda os vértices na ordem de descoberta; o nível atual é [begin, end)
+        int[] forwardQueue = new int[n];
+        int[] backwardQueue = new int[n];
+        forwardQueue[0] = source;
+        backwardQueue[0] = target;
+        forwardDistance[source] = 0;
+        backwardDistance[target] = 0;
+        forwardParent[source] = -1;
+        backwardParent[target] = -1;
+        int forwardBegin = 0, forwardEnd = 1;
+        int backwardBegin = 0, backwardEnd = 1;
+
+        int meeting = -1;
+        int bestLength = Integer.MAX_VALUE;
+
+        while (forwardBegin < forwardEnd && backwardBegin < backwardEnd && meeting < 0) {
+            boolean forward = forwardEnd - forwardBegin <= backwardEnd - backwardBegin;
+            int[] queue = forward ? forwardQueue : backwardQueue;
+            int[] distance = forward ? forwardDistance : backwardDistance;
+            int[] parent = forward ? forwardParent : backwardParent;
+            int[] otherDistance = forward ? backwardDistance : forwardDistance;
+            int begin = forward ? forwardBegin : backwardBegin;
+            int end = forward ? forwardEnd : backwardEnd;
+            int tail = end;
+
+            for (int i = begin; i < end; i++) {
+                int u = queue[i];
+                int nextDistance = distance[u] + 1;
+                int arcBegin = forward ? graph.outBegin(u) : graph.inBegin(u);
+                int arcEnd = forward ? graph.outEnd(u) : graph.inEnd(u);
+
+                for (int arc = arcBegin; arc < arcEnd; arc++) {
+                    int w = forward ? graph.outTarget(arc) : graph.inSource(arc);
+                    if (distance[w] >= 0) continue;
+
+                    distance[w] = nextDistance;
+                    parent[w] = u;
+                    queue[tail++] = w;
+
+                    if (otherDistance[w] >= 0 && nextDistance + otherDistance[w] < bestLength) {
+                        meeting = w;
+                        bestLength = nextDistance + otherDistance[w];
+                        if (firstMeeting) break;
+                    }
+                }
+                if (firstMeeting && meeting >= 0) break;
+            }
+
+            if (forward) {
+                forwardBegin = end;
+                forwardEnd = tail;
+            } else {
+                backwardBegin = end;
+                backwardEnd = tail;
+            }
+        }
+
+        if (meeting < 0) {
+            return null;
+        }
+
+        int[] path = new int[forwardDistance[meeting] + backwardDistance[meeting] + 1];
+        int pos = forwardDistance[meeting];
+        for (int v = meeting; v >= 0; v = forwardParent[v]) {
+            path[pos--] = v;
+        }
+        pos = forwardDistance[meeting] + 1;
+        for (int v = backwardParent[meeting]; v >= 0; v = backwardParent[v]) {
+            path[pos++] = v;
+        }
+        return path;
+    }
+}
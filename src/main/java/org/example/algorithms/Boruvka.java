@@ -0,0 +1,91 @@
+package org.example.algorithms;
+
+import org.example.graph.Connection;
+import org.example.graph.GraphSnapshot;
+import org.example.graph.Vertex;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Algoritmo de Borůvka sobre GraphSnapshot. Em cada rodada, a ligação mais barata que sai
+ * de cada componente é escolhida em paralelo no ForkJoinPool; as escolhas são então unidas
+ * por union-find. São no máximo O(log V) rodadas. Em grafos desconexos o resultado é uma
+ * floresta geradora mínima. A orientação das ligações é ignorada, como em Prim.
+ */
+public class Boruvka {
+
+    private static final long NONE = Long.MAX_VALUE;
+
+    public static Prim.PrimResult findMinimumSpanningForest(List<Vertex> vertexList, List<Connection> connectionList) {
+        if (vertexList == null || connectionList == null) {
+            return null;
+        }
+        return findMinimumSpanningForest(GraphSnapshot.of(vertexList, connectionList));
+    }
+
+    public static Prim.PrimResult findMinimumSpanningForest(GraphSnapshot graph) {
+        return findMinimumSpanningForest(graph, ForkJoinPool.commonPool());
+    }
+
+    public static Prim.PrimResult findMinimumSpanningForest(GraphSnapshot graph, ForkJoinPool pool) {
+        if (graph == null || graph.getVertexCount() == 0) {
+            return null;
+        }
+
+        int n = graph.getVertexCount();
+        int m = graph.getConnectionCount();
+
+        // Chaves com desempate pelo id: com uma ordem total estrita as escolhas nunca formam ciclo
+        long[] keys = Kruskal.edgeKeys(graph);
+        UnionFind unionFind = new UnionFind(n);
+        int[] component = new int[n];
+        AtomicLongArray cheapest = new AtomicLongArray(n);
+
+        int[] forest = new int[Math.max(n - 1, 0)];
+        int forestSize = 0;
+        boolean merged = true;
+
+        while (merged && forestSize < n - 1) {
+            for (int v = 0; v < n; v++) {
+                component[v] = unionFind.find(v);
+            }
+
+            pool.submit(() -> {
+                IntStream.range(0, n).parallel().forEach(v -> cheapest.set(v, NONE));
+                IntStream.range(0, m).parallel().forEach(c -> {
+                    int a = component[graph.getConnectionSource(c)];
+                    int b = component[graph.getConnectionTarget(c)];
+                    if (a != b) {
+                        offer(cheapest, a, keys[c]);
+                        offer(cheapest, b, keys[c]);
+                    }
+                });
+            }).join();
+
+            merged = false;
+            for (int v = 0; v < n; v++) {
+                long key = component[v] == v ? cheapest.get(v) : NONE;
+                if (key == NONE) continue;
+
+                int c = (int) key;
+                if (unionFind.union(graph.getConnectionSource(c), graph.getConnectionTarget(c))) {
+                    forest[forestSize++] = c;
+                    merged = true;
+                }
+            }
+        }
+
+        return Prim.PrimResult.fromForest(graph, unionFind, forest, forestSize);
+    }
+
+    // Mínimo atômico por compare-and-set
+    private static void offer(AtomicLongArray cheapest, int component, long key) {
+        long current = cheapest.get(component);
+        while (key < current && !cheapest.compareAndSet(component, current, key)) {
+            current = cheapest.get(component);
+        }
+    }
+}
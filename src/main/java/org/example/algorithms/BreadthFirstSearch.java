@@ -1,11 +1,17 @@
 package org.example.algorithms;
 
 import org.example.graph.Connection;
+import org.example.graph.GraphSnapshot;
 import org.example.graph.Vertex;
 
 import java.util.*;
 
 public class BreadthFirstSearch {
+    /**
+     * Resultado de uma busca em largura. Quando vem de uma busca sobre GraphSnapshot, é
+     * apoiado diretamente nos vetores da busca (ids de vértice): listas e mapas são visões
+     * somente leitura e as consultas por vértice custam O(1), sem nenhuma cópia.
+     */
     public static class BFSResult {
         private final List<Connection> treeEdges;
         private final List<Vertex> visitOrder;
@@ -13,30 +19,58 @@ public class BreadthFirstSearch {
         private final Map<Vertex, Vertex> parents;
         private final Vertex startVertex;
 
+        // Apenas no resultado apoiado em vetores (null no construtor com coleções)
+        private final GraphSnapshot graph;
+        private final int[] distance;
+        private final int[] parentConnection;
+
+        // As coleções recebidas não são copiadas, apenas expostas como somente leitura
         public BFSResult(List<Connection> treeEdges, List<Vertex> visitOrder,
                          Map<Vertex, Integer> distances, Map<Vertex, Vertex> parents,
                          Vertex startVertex) {
-            this.treeEdges = new ArrayList<>(treeEdges);
-            this.visitOrder = new ArrayList<>(visitOrder);
-            this.distances = new HashMap<>(distances);
-            this.parents = new HashMap<>(parents);
+            this.treeEdges = Collections.unmodifiableList(treeEdges);
+            this.visitOrder = Collections.unmodifiableList(visitOrder);
+            this.distances = Collections.unmodifiableMap(distances);
+            this.parents = Collections.unmodifiableMap(parents);
             this.startVertex = startVertex;
+            this.graph = null;
+            this.distance = null;
+            this.parentConnection = null;
+        }
+
+        private BFSResult(GraphSnapshot graph, int[] order, int visitedCount,
+                          int[] distance, int[] parentConnection, Vertex startVertex) {
+            this.graph = graph;
+            this.distance = distance;
+            this.parentConnection = parentConnection;
+            this.startVertex = startVertex;
+            this.visitOrder = TraversalViews.vertices(graph, order, visitedCount, distance);
+            this.treeEdges = TraversalViews.treeEdges(graph, order, visitedCount, parentConnection);
+            this.distances = TraversalViews.values(graph, order, visitedCount, distance, distance);
+            this.parents = TraversalViews.parents(graph, order, visitedCount, distance, parentConnection, true);
+        }
+
+        // Resultado apoiado nos vetores de uma busca sobre GraphSnapshot: distance[v] é -1 nos
+        // vértices não visitados e parentConnection[v] é a ligação da árvore que alcançou v (-1 na raiz)
+        static BFSResult fromArrays(GraphSnapshot graph, int[] order, int visitedCount,
+                                    int[] distance, int[] parentConnection, Vertex startVertex) {
+            return new BFSResult(graph, order, visitedCount, distance, parentConnection, startVertex);
         }
 
         public List<Connection> getTreeEdges() {
-            return new ArrayList<>(treeEdges);
+            return treeEdges;
         }
 
         public List<Vertex> getVisitOrder() {
-            return new ArrayList<>(visitOrder);
+            return visitOrder;
         }
 
         public Map<Vertex, Integer> getDistances() {
-            return new HashMap<>(distances);
+            return distances;
         }
 
         public Map<Vertex, Vertex> getParents() {
-            return new HashMap<>(parents);
+            return parents;
         }
 
         public Vertex getStartVertex() {
@@ -52,22 +86,57 @@ public class BreadthFirstSearch {
         }
 
         public int getDistanceToVertex(Vertex vertex) {
+            if (graph != null) {
+                int v = graph.indexOf(vertex);
+                return v >= 0 ? distance[v] : -1;
+            }
             return distances.getOrDefault(vertex, -1);
         }
 
+        // --- Acesso por id (apenas no resultado apoiado em vetores) ---
+
+        public GraphSnapshot getGraph() {
+            return graph;
+        }
+
+        public int getDistance(int vertexId) {
+            return distance[vertexId];
+        }
+
+        public int getParentConnection(int vertexId) {
+            return parentConnection[vertexId];
+        }
+
         public List<Vertex> getPathToVertex(Vertex target) {
+            if (graph != null) {
+                int v = graph.indexOf(target);
+                if (v < 0 || distance[v] < 0) {
+                    return new ArrayList<>();
+                }
+
+                List<Vertex> path = new ArrayList<>(distance[v] + 1);
+                while (v >= 0) {
+                    path.add(graph.getVertex(v));
+                    int connection = parentConnection[v];
+                    v = connection >= 0 ? TraversalViews.otherEndpoint(graph, connection, v) : -1;
+                }
+                Collections.reverse(path);
+                return path;
+            }
+
             List<Vertex> path = new ArrayList<>();
             Vertex current = target;
 
             while (current != null) {
-                path.add(0, current);
+                path.add(current);
                 current = parents.get(current);
             }
 
-            if (path.isEmpty() || !path.get(0).equals(startVertex)) {
+            if (path.isEmpty() || !path.get(path.size() - 1).equals(startVertex)) {
                 return new ArrayList<>();
             }
 
+            Collections.reverse(path);
             return path;
         }
     }
@@ -85,93 +154,120 @@ public class BreadthFirstSearch {
             return null;
         }
 
-        if (!vertexList.contains(startVertex)) {
-            return null;
-        }
-
-        Queue<Vertex> queue = new LinkedList<>();
-        Set<Vertex> visited = new HashSet<>();
-        List<Vertex> visitOrder = new ArrayList<>();
-        List<Connection> treeEdges = new ArrayList<>();
-        Map<Vertex, Integer> distances = new HashMap<>();
-        Map<Vertex, Vertex> parents = new HashMap<>();
-
-        queue.offer(startVertex);
-        visited.add(startVertex);
-        visitOrder.add(startVertex);
-        distances.put(startVertex, 0);
-        parents.put(startVertex, null);
-
-        while (!queue.isEmpty()) {
-            Vertex current = queue.poll();
-            int currentDistance = distances.get(current);
-
-            for (Connection connection : connectionList) {
-                Vertex neighbor = getOtherVertex(connection, current);
+        // Os arcos de saída do snapshot são exatamente os vizinhos alcançáveis de cada vértice
+        // (arestas nos dois sentidos, arcos só no seu sentido)
+        return performBFS(GraphSnapshot.of(vertexList, connectionList), startVertex);
+    }
 
-                if (neighbor != null && !visited.contains(neighbor)) {
-                    visited.add(neighbor);
-                    visitOrder.add(neighbor);
 
-                    distances.put(neighbor, currentDistance + 1);
-                    parents.put(neighbor, current);
+    public static BFSResult performBFS(GraphSnapshot graph, Vertex startVertex) {
+        if (graph == null || startVertex == null) {
+            return null;
+        }
 
-                    treeEdges.add(connection);
+        int start = graph.indexOf(startVertex);
+        if (start < 0) {
+            return null;
+        }
 
-                    queue.offer(neighbor);
+        int n = graph.getVertexCount();
+        int[] queue = new int[n];
+        int[] distance = new int[n];
+        int[] parentConnection = new int[n];
+        Arrays.fill(distance, -1);
+
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        distance[start] = 0;
+        parentConnection[start] = -1;
+
+        while (head < tail) {
+            int current = queue[head++];
+            int nextDistance = distance[current] + 1;
+
+            for (int arc = graph.outBegin(current), end = graph.outEnd(current); arc < end; arc++) {
+                int neighbor = graph.outTarget(arc);
+                if (distance[neighbor] < 0) {
+                    distance[neighbor] = nextDistance;
+                    parentConnection[neighbor] = graph.outConnection(arc);
+                    queue[tail++] = neighbor;
                 }
             }
         }
 
-        return new BFSResult(treeEdges, visitOrder, distances, parents, startVertex);
-    }
-
-
-    private static Vertex getOtherVertex(Connection connection, Vertex vertex) {
-        if (connection.getSource().equals(vertex)) {
-            return connection.getTarget();
-        } else if (connection.getTarget().equals(vertex) && !connection.isDirected()) {
-            return connection.getSource();
-        } else if (connection.getTarget().equals(vertex) && connection.isDirected()) {
-            return null;
-        }
-        return null;
+        return BFSResult.fromArrays(graph, queue, tail, distance, parentConnection, startVertex);
     }
 
 
+    // Uma busca a partir de cada vértice ainda fora de componentes, reaproveitando os mesmos vetores
     public static List<List<Vertex>> findConnectedComponents(List<Vertex> vertexList,
                                                              List<Connection> connectionList) {
         List<List<Vertex>> components = new ArrayList<>();
-        Set<Vertex> globalVisited = new HashSet<>();
-
-        for (Vertex vertex : vertexList) {
-            if (!globalVisited.contains(vertex)) {
-                BFSResult result = performBFS(vertexList, connectionList, vertex);
-                if (result != null) {
-                    List<Vertex> component = result.getVisitOrder();
-                    components.add(component);
-                    globalVisited.addAll(component);
+        GraphSnapshot graph = GraphSnapshot.of(vertexList, connectionList);
+        int n = graph.getVertexCount();
+        boolean[] assigned = new boolean[n];
+        int[] searchMark = new int[n];
+        int[] queue = new int[n];
+        int search = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (assigned[root]) continue;
+
+            // Cada busca tem a sua marca, então não é preciso limpar os vetores entre buscas
+            search++;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = root;
+            searchMark[root] = search;
+
+            while (head < tail) {
+                int current = queue[head++];
+                for (int arc = graph.outBegin(current), end = graph.outEnd(current); arc < end; arc++) {
+                    int neighbor = graph.outTarget(arc);
+                    if (searchMark[neighbor] != search) {
+                        searchMark[neighbor] = search;
+                        queue[tail++] = neighbor;
+                    }
                 }
             }
+
+            List<Vertex> component = new ArrayList<>(tail);
+            for (int i = 0; i < tail; i++) {
+                component.add(graph.getVertex(queue[i]));
+                assigned[queue[i]] = true;
+            }
+            components.add(component);
         }
 
         return components;
     }
 
 
+    /**
+     * true se há caminho de source a target usando só os vértices e ligações das listas dadas.
+     * Monta um GraphSnapshot a cada chamada, então custa O(V + E) mesmo com a parada
+     * antecipada da busca bidirecional. Para muitas consultas, reaproveite um snapshot com
+     * {@link BidirectionalSearch#hasPath(GraphSnapshot, int, int)} ou use as listas de
+     * incidência dos vértices com {@link BidirectionalSearch#hasPath(Vertex, Vertex)}.
+     */
     public static boolean hasPath(List<Vertex> vertexList, List<Connection> connectionList,
                                   Vertex source, Vertex target) {
-        BFSResult result = performBFS(vertexList, connectionList, source);
-        return result != null && result.getVisitOrder().contains(target);
+        GraphSnapshot graph = GraphSnapshot.of(vertexList, connectionList);
+        int s = graph.indexOf(source);
+        int t = graph.indexOf(target);
+        return s >= 0 && t >= 0 && BidirectionalSearch.hasPath(graph, s, t);
     }
 
 
+    /**
+     * Menor caminho (em número de ligações) restrito às listas dadas. Também monta um
+     * snapshot por chamada, O(V + E); para consultas repetidas use
+     * {@link BidirectionalSearch#findShortestPath(GraphSnapshot, int, int)} com um
+     * snapshot reaproveitado.
+     */
     public static List<Vertex> findShortestPath(List<Vertex> vertexList, List<Connection> connectionList,
                                                 Vertex source, Vertex target) {
-        BFSResult result = performBFS(vertexList, connectionList, source);
-        if (result != null) {
-            return result.getPathToVertex(target);
-        }
-        return new ArrayList<>();
+        return BidirectionalSearch.findShortestPath(GraphSnapshot.of(vertexList, connectionList), source, target);
     }
 }
\ No newline at end of file
@@ -0,0 +1,239 @@
+package org.example.algorithms;
+
+import org.example.graph.GraphSnapshot;
+import org.example.graph.Vertex;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Grafo condensado: cada componente fortemente conexo vira um nó e os arcos entre
+ * componentes diferentes formam um DAG em CSR, sem arcos repetidos. Os arcos que saem
+ * do componente c ocupam [outBegin(c), outEnd(c)).
+ *
+ * Traz também os membros de cada componente e uma ordem topológica (Kahn, linear),
+ * para uso por algoritmos de caminho e de alcançabilidade.
+ */
+public final class Condensation {
+    private final GraphSnapshot graph;
+    private final int[] component;
+    private final int componentCount;
+
+    private final int[] memberOffsets;
+    private final int[] members;
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] topologicalOrder;
+    private final int[] topologicalPosition;
+
+    private Condensation(GraphSnapshot graph, int[] component, int componentCount) {
+        this.graph = graph;
+        this.component = component;
+        this.componentCount = componentCount;
+
+        int n = graph.getVertexCount();
+
+        // Membros agrupados por componente (ordenação por contagem)
+        memberOffsets = new int[componentCount + 1];
+        for (int v = 0; v < n; v++) {
+            memberOffsets[component[v] + 1]++;
+        }
+        for (int c = 0; c < componentCount; c++) {
+            memberOffsets[c + 1] += memberOffsets[c];
+        }
+        members = new int[n];
+        int[] next = Arrays.copyOf(memberOffsets, componentCount);
+        for (int v = 0; v < n; v++) {
+            members[next[component[v]]++] = v;
+        }
+
+        // Duas passadas com marcador por componente de origem: contagem e preenchimento,
+        // descartando arcos internos e repetidos
+        int[] mark = new int[componentCount];
+        offsets = new int[componentCount + 1];
+        for (int c = 0; c < componentCount; c++) {
+            int unique = 0;
+            for (int i = memberOffsets[c]; i < memberOffsets[c + 1]; i++) {
+                int v = members[i];
+                for (int arc = graph.outBegin(v); arc < graph.outEnd(v); arc++) {
+                    int t = component[graph.outTarget(arc)];
+                    if (t != c && mark[t] != c + 1) {
+                        mark[t] = c + 1;
+                        unique++;
+                    }
+                }
+            }
+            offsets[c + 1] = offsets[c] + unique;
+        }
+
+        targets = new int[offsets[componentCount]];
+        for (int c = 0; c < componentCount; c++) {
+            int pos = offsets[c];
+            for (int i = memberOffsets[c]; i < memberOffsets[c + 1]; i++) {
+                int v = members[i];
+                for (int arc = graph.outBegin(v); arc < graph.outEnd(v); arc++) {
+                    int t = component[graph.outTarget(arc)];
+                    if (t != c && mark[t] != -(c + 1)) {
+                        mark[t] = -(c + 1);
+                        targets[pos++] = t;
+                    }
+                }
+            }
+        }
+
+        topologicalOrder = topologicalOrder(componentCount, offsets, targets);
+        if (topologicalOrder == null) {
+            throw new IllegalArgumentException("Partição não forma um DAG");
+        }
+        topologicalPosition = new int[componentCount];
+        for (int i = 0; i < componentCount; i++) {
+            topologicalPosition[topologicalOrder[i]] = i;
+        }
+    }
+
+    public static Condensation of(GraphSnapshot graph) {
+        return of(TarjanSCC.findSCCs(graph));
+    }
+
+    public static Condensation of(TarjanSCC.SCCResult scc) {
+        return new Condensation(scc.getGraph(), scc.componentIds(), scc.getComponentCount());
+    }
+
+    /**
+     * A partir de componentes já calculados (ex.: KosarajuSCC ou ParallelSCC).
+     *
+     * @throws IllegalArgumentException se algum vértice falta, se repete ou é de outro grafo,
+     *                                  ou se o grafo quociente tem ciclo (não são SCCs)
+     */
+    public static Condensation of(GraphSnapshot graph, List<List<Vertex>> components) {
+        int[] component = new int[graph.getVertexCount()];
+        Arrays.fill(component, -1);
+        for (int c = 0; c < components.size(); c++) {
+            for (Vertex vertex : components.get(c)) {
+                int v = graph.indexOf(vertex);
+                if (v < 0) {
+                    throw new IllegalArgumentException("Vértice fora do grafo: " + vertex.getId());
+                }
+                if (component[v] >= 0) {
+                    throw new IllegalArgumentException("Vértice em mais de uma componente: " + vertex.getId());
+                }
+                component[v] = c;
+            }
+        }
+        for (int v = 0; v < component.length; v++) {
+            if (component[v] < 0) {
+                throw new IllegalArgumentException("Vértice sem componente: " + graph.getVertex(v).getId());
+            }
+        }
+        return new Condensation(graph, component, components.size());
+    }
+
+    /**
+     * Ordem topológica de um grafo em CSR pelo algoritmo de Kahn, em O(n + m).
+     *
+     * @return os nós em ordem topológica, ou null se o grafo tiver ciclo
+     */
+    public static int[] topologicalOrder(int n, int[] offsets, int[] targets) {
+        int[] inDegree = new int[n];
+        for (int arc = 0; arc < offsets[n]; arc++) {
+            inDegree[targets[arc]]++;
+        }
+
+        int[] order = new int[n];
+        int tail = 0;
+        for (int u = 0; u < n; u++) {
+            if (inDegree[u] == 0) order[tail++] = u;
+        }
+        for (int head = 0; head < tail; head++) {
+            int u = order[head];
+            for (int arc = offsets[u]; arc < offsets[u + 1]; arc++) {
+                if (--inDegree[targets[arc]] == 0) {
+                    order[tail++] = targets[arc];
+                }
+            }
+        }
+
+        return tail == n ? order : null;
+    }
+
+    // --- Componentes ----------------------------------------------------
+
+    public GraphSnapshot getGraph() { return graph; }
+
+    public int getComponentCount() { return componentCount; }
+
+    public int getComponentOf(int vertex) { return component[vertex]; }
+
+    public int getComponentOf(Vertex vertex) {
+        int v = graph.indexOf(vertex);
+        return v >= 0 ? component[v] : -1;
+    }
+
+    public int[] getComponentIds() { return component.clone(); }
+
+    public int getComponentSize(int c) { return memberOffsets[c + 1] - memberOffsets[c]; }
+
+    public int memberBegin(int c) { return memberOffsets[c]; }
+
+    public int memberEnd(int c) { return memberOffsets[c + 1]; }
+
+    public int member(int i) { return members[i]; }
+
+    // --- DAG --------------------------------------------------------------
+
+    public int getArcCount() { return targets.length; }
+
+    public int outBegin(int c) { return offsets[c]; }
+
+    public int outEnd(int c) { return offsets[c + 1]; }
+
+    public int outDegree(int c) { return offsets[c + 1] - offsets[c]; }
+
+    public int outTarget(int arc) { return targets[arc]; }
+
+    public int[] getTopologicalOrder() { return topologicalOrder.clone(); }
+
+    public int getTopologicalPosition(int c) { return topologicalPosition[c]; }
+
+    // Vetores internos, sem cópia, para os outros algoritmos do pacote
+    int[] offsets() { return offsets; }
+
+    int[] targets() { return targets; }
+
+    int[] topologicalOrder() { return topologicalOrder; }
+
+    int[] componentIds() { return component; }
+
+    /**
+     * Alcançabilidade entre vértices usando o DAG: vértices do mesmo componente se alcançam;
+     * caso contrário busca-se só entre componentes posteriores na ordem topológica.
+     */
+    public boolean canReach(int source, int target) {
+        int from = component[source];
+        int to = component[target];
+        if (from == to) return true;
+
+        int[] position = topologicalPosition;
+        if (position[from] > position[to]) return false;
+
+        boolean[] visited = new boolean[componentCount];
+        int[] stack = new int[componentCount];
+        int top = 0;
+        visited[from] = true;
+        stack[top++] = from;
+        while (top > 0) {
+            int c = stack[--top];
+            for (int arc = offsets[c]; arc < offsets[c + 1]; arc++) {
+                int d = targets[arc];
+                if (d == to) return true;
+                // Componentes depois do destino na ordem topológica não levam até ele
+                if (!visited[d] && position[d] < position[to]) {
+                    visited[d] = true;
+                    stack[top++] = d;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,613 @@
+package org.example.algorithms;
+
+import org.example.graph.GraphSnapshot;
+import org.example.graph.Vertex;
+
+import java.util.Arrays;
+
+/**
+ * Contraction Hierarchies: pré-processamento que contrai os vértices um a um, em ordem de
+ * importância, e acrescenta atalhos (shortcuts) para preservar as distâncias entre os
+ * vértices que restam. Depois disso uma consulta é um Dijkstra bidirecional que só sobe
+ * na hierarquia e fecha poucas centenas de vértices mesmo em grafos de estradas grandes.
+ *
+ * <ul>
+ *   <li>Ordem: fila pela diferença de arestas (atalhos criados - arestas removidas) mais
+ *   o número de vizinhos já contraídos, com atualização preguiçosa ao retirar da fila;</li>
+ *   <li>Testemunhas: ao contrair v, um Dijkstra limitado a partir de cada vizinho de
+ *   entrada u, sem passar por v, decide se u → v → w precisa de atalho;</li>
+ *   <li>Busca: arcos para vértices de nível maior em dois CSR, os de saída (subida da
+ *   origem) e os de entrada (subida do destino, no grafo transposto).</li>
+ * </ul>
+ *
+ * Cada atalho guarda as duas arestas que substitui, então o caminho é desempacotado de
+ * volta nos ids das ligações do snapshot. A estrutura é imutável depois de construída;
+ * as consultas usam um {@link Query}, que reaproveita os vetores e não deve ser
+ * compartilhado entre threads.
+ */
+public class ContractionHierarchy {
+
+    // Vértices fechados por busca de testemunha antes de desistir e criar o atalho
+    private static final int WITNESS_SETTLE_LIMIT = 200;
+
+    private final GraphSnapshot graph;
+    private final long fingerprint;
+    private final int[] rank;
+
+    // Arestas da hierarquia: originais (ligação >= 0) e atalhos (ligação -1, com as duas
+    // arestas que substituem)
+    private final int[] edgeConnection;
+    private final int[] edgeFirst;
+    private final int[] edgeSecond;
+    private final int shortcutCount;
+
+    // Subida a partir da origem: arcos v -> w com rank[w] > rank[v]
+    private final int[] upOffsets;
+    private final int[] upTargets;
+    private final double[] upWeights;
+    private final int[] upEdges;
+
+    // Subida a partir do destino: arcos w -> v com rank[w] > rank[v], guardados em v
+    private final int[] downOffsets;
+    private final int[] downSources;
+    private final double[] downWeights;
+    private final int[] downEdges;
+
+    private Query defaultQuery;
+
+    private ContractionHierarchy(GraphSnapshot graph, Builder builder) {
+        this.graph = graph;
+        this.fingerprint = graph.fingerprint();
+        this.rank = builder.rank;
+
+        int m = builder.edgeCount;
+        edgeConnection = Arrays.copyOf(builder.edgeConnection, m);
+        edgeFirst = Arrays.copyOf(builder.edgeFirst, m);
+        edgeSecond = Arrays.copyOf(builder.edgeSecond, m);
+        shortcutCount = builder.shortcutCount;
+
+        int n = graph.getVertexCount();
+        upOffsets = new int[n + 1];
+        downOffsets = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            upOffsets[v + 1] = upOffsets[v] + builder.upSize[v];
+            downOffsets[v + 1] = downOffsets[v] + builder.downSize[v];
+        }
+        upTargets = new int[upOffsets[n]];
+        upWeights = new double[upOffsets[n]];
+        upEdges = new int[upOffsets[n]];
+        downSources = new int[downOffsets[n]];
+        downWeights = new double[downOffsets[n]];
+        downEdges = new int[downOffsets[n]];
+
+        for (int v = 0; v < n; v++) {
+            for (int i = 0; i < builder.upSize[v]; i++) {
+                int edge = builder.up[v][i];
+                int slot = upOffsets[v] + i;
+                upTargets[slot] = builder.edgeTo[edge];
+                upWeights[slot] = builder.edgeWeight[edge];
+                upEdges[slot] = edge;
+            }
+            for (int i = 0; i < builder.downSize[v]; i++) {
+                int edge = builder.down[v][i];
+                int slot = downOffsets[v] + i;
+                downSources[slot] = builder.edgeFrom[edge];
+                downWeights[slot] = builder.edgeWeight[edge];
+                downEdges[slot] = edge;
+            }
+        }
+    }
+
+    /**
+     * Contrai todos os vértices do grafo.
+     *
+     * @throws IllegalArgumentException se alguma ligação tem peso negativo
+     */
+    public static ContractionHierarchy build(GraphSnapshot graph) {
+        Builder builder = new Builder(graph);
+        builder.contractAll();
+        return new ContractionHierarchy(graph, builder);
+    }
+
+    public GraphSnapshot getGraph() {
+        return graph;
+    }
+
+    /** true se a hierarquia foi construída para este mesmo grafo (vértices, ligações e pesos). */
+    public boolean matches(GraphSnapshot other) {
+        return other.getVertexCount() == rank.length && other.fingerprint() == fingerprint;
+    }
+
+    // Posição do vértice na ordem de contração (0 = o primeiro contraído)
+    public int getRank(int vertex) {
+        return rank[vertex];
+    }
+
+    public int getShortcutCount() {
+        return shortcutCount;
+    }
+
+    public Query newQuery() {
+        return new Query();
+    }
+
+    /** Consulta pela instância padrão (não é segura entre threads). */
+    public PathResult findPath(int source, int target) {
+        if (defaultQuery == null) {
+            defaultQuery = new Query();
+        }
+        return defaultQuery.findPath(source, target);
+    }
+
+    public PathResult findPath(Vertex source, Vertex target) {
+        int s = graph.indexOf(source);
+        int t = graph.indexOf(target);
+        if (s < 0 || t < 0) {
+            throw new IllegalArgumentException("Vértice fora do grafo.");
+        }
+        return findPath(s, t);
+    }
+
+    /**
+     * Busca bidirecional só para cima. Cada lado para quando o topo da sua fila não é
+     * menor que o melhor caminho já visto; o vértice mais alto do caminho mínimo é
+     * fechado pelos dois lados antes disso.
+     */
+    public class Query {
+        private static final int FORWARD = 0;
+        private static final int BACKWARD = 1;
+
+        private final double[][] distance = new double[2][];
+        private final int[][] parent = new int[2][];
+        private final int[][] parentEdge = new int[2][];
+        private final int[][] reached = new int[2][];
+        private final IndexedMinHeap[] queue = new IndexedMinHeap[2];
+        private int query = 0;
+
+        // Pilha de desempacotamento dos atalhos
+        private int[] stack = new int[16];
+
+        private Query() {
+            int n = graph.getVertexCount();
+            for (int side = 0; side < 2; side++) {
+                distance[side] = new double[n];
+                parent[side] = new int[n];
+                parentEdge[side] = new int[n];
+                reached[side] = new int[n];
+                queue[side] = new IndexedMinHeap(n);
+            }
+        }
+
+        public PathResult findPath(int source, int target) {
+            if (++query == Integer.MAX_VALUE) {
+                Arrays.fill(reached[FORWARD], 0);
+                Arrays.fill(reached[BACKWARD], 0);
+                query = 1;
+            }
+            queue[FORWARD].clear();
+            queue[BACKWARD].clear();
+            open(FORWARD, source);
+            open(BACKWARD, target);
+
+            double best = Double.POSITIVE_INFINITY;
+            int meeting = -1;
+            int settled = 0;
+            int side = FORWARD;
+
+            while (true) {
+                boolean forwardActive = !queue[FORWARD].isEmpty() && queue[FORWARD].peekKey() < best;
+                boolean backwardActive = !queue[BACKWARD].isEmpty() && queue[BACKWARD].peekKey() < best;
+                if (!forwardActive && !backwardActive) {
+                    break;
+                }
+                // Alterna os lados enquanto os dois podem avançar
+                if (side == FORWARD ? !forwardActive : !backwardActive) {
+                    side = 1 - side;
+                }
+
+                int other = 1 - side;
+                int u = queue[side].poll();
+                settled++;
+                double du = distance[side][u];
+
+                if (reached[other][u] == query && du + distance[other][u] < best) {
+                    best = du + distance[other][u];
+                    meeting = u;
+                }
+
+                boolean forward = side == FORWARD;
+                int begin = forward ? upOffsets[u] : downOffsets[u];
+                int end = forward ? upOffsets[u + 1] : downOffsets[u + 1];
+                for (int i = begin; i < end; i++) {
+                    int w = forward ? upTargets[i] : downSources[i];
+                    double candidate = du + (forward ? upWeights[i] : downWeights[i]);
+                    if (reached[side][w] != query || candidate < distance[side][w]) {
+                        reached[side][w] = query;
+                        distance[side][w] = candidate;
+                        parent[side][w] = u;
+                        parentEdge[side][w] = forward ? upEdges[i] : downEdges[i];
+                        queue[side].insertOrDecrease(w, candidate);
+                    }
+                }
+                side = other;
+            }
+
+            if (meeting < 0) {
+                return PathResult.notFound(graph, source, target, settled);
+            }
+            return new PathResult(graph, source, target, unpack(source, target, meeting), best, settled);
+        }
+
+        private void open(int side, int v) {
+            reached[side][v] = query;
+            distance[side][v] = 0.0;
+            parent[side][v] = -1;
+            parentEdge[side][v] = -1;
+            queue[side].insert(v, 0.0);
+        }
+
+        // Arestas da origem ao encontro e dele ao destino, com os atalhos desempacotados
+        private int[] unpack(int source, int target, int meeting) {
+            int forwardLength = 0;
+            for (int v = meeting; v != source; v = parent[FORWARD][v]) {
+                forwardLength++;
+            }
+            int[] edges = new int[forwardLength];
+            for (int v = meeting; v != source; v = parent[FORWARD][v]) {
+                edges[--forwardLength] = parentEdge[FORWARD][v];
+            }
+
+            IntList connections = new IntList();
+            for (int edge : edges) {
+                appendUnpacked(edge, connections);
+            }
+            for (int v = meeting; v != target; v = parent[BACKWARD][v]) {
+                appendUnpacked(parentEdge[BACKWARD][v], connections);
+            }
+            return connections.toArray();
+        }
+
+        // Desempacota uma aresta com pilha explícita (atalhos podem aninhar muito)
+        private void appendUnpacked(int edge, IntList connections) {
+            int top = 0;
+            stack[top++] = edge;
+            while (top > 0) {
+                int e = stack[--top];
+                if (edgeConnection[e] >= 0) {
+                    connections.add(edgeConnection[e]);
+                    continue;
+                }
+                if (top + 2 > stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                stack[top++] = edgeSecond[e];
+                stack[top++] = edgeFirst[e];
+            }
+        }
+    }
+
+    // Lista de ints que cresce sob demanda
+    private static final class IntList {
+        private int[] values = new int[16];
+        private int size = 0;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    // --- Pré-processamento ---
+
+    /**
+     * Grafo de sobreposição durante a contração: cada vértice guarda as arestas de saída e
+     * de entrada para vértices ainda não contraídos (as demais são descartadas ao percorrer).
+     */
+    private static final class Builder {
+        private final int n;
+        private final boolean[] contracted;
+        private final int[] rank;
+        private final int[] contractedNeighbours;
+        private final int[] touched;
+
+        private int[] edgeFrom = new int[16];
+        private int[] edgeTo = new int[16];
+        private double[] edgeWeight = new double[16];
+        private int[] edgeConnection = new int[16];
+        private int[] edgeFirst = new int[16];
+        private int[] edgeSecond = new int[16];
+        private int edgeCount = 0;
+        private int shortcutCount = 0;
+
+        private final int[][] out;
+        private final int[] outSize;
+        private final int[][] in;
+        private final int[] inSize;
+
+        // Arestas de cada vértice para os de nível maior, registradas ao contraí-lo
+        private final int[][] up;
+        private final int[] upSize;
+        private final int[][] down;
+        private final int[] downSize;
+
+        // Busca de testemunhas
+        private final double[] witnessDistance;
+        private final int[] witnessReached;
+        private final int[] witnessTarget;
+        private final IndexedMinHeap witnessQueue;
+        private int witnessQuery = 0;
+
+        // Atalhos pendentes da contração atual: aresta de entrada, aresta de saída, peso
+        private int[] pendingIn = new int[16];
+        private int[] pendingOut = new int[16];
+        private double[] pendingWeight = new double[16];
+        private int pendingCount = 0;
+
+        Builder(GraphSnapshot graph) {
+            n = graph.getVertexCount();
+            contracted = new boolean[n];
+            rank = new int[n];
+            contractedNeighbours = new int[n];
+            touched = new int[n];
+            out = new int[n][];
+            outSize = new int[n];
+            in = new int[n][];
+            inSize = new int[n];
+            up = new int[n][];
+            upSize = new int[n];
+            down = new int[n][];
+            downSize = new int[n];
+            witnessDistance = new double[n];
+            witnessReached = new int[n];
+            witnessTarget = new int[n];
+            witnessQueue = new IndexedMinHeap(n);
+
+            for (int v = 0; v < n; v++) {
+                out[v] = new int[Math.max(2, graph.outDegree(v))];
+                in[v] = new int[Math.max(2, graph.inDegree(v))];
+            }
+
+            // Arestas originais; laços são ignorados e, entre ligações paralelas, fica a mais leve
+            for (int u = 0; u < n; u++) {
+                for (int arc = graph.outBegin(u); arc < graph.outEnd(u); arc++) {
+                    int w = graph.outTarget(arc);
+                    double weight = graph.outWeight(arc);
+                    if (weight < 0) {
+                        throw new IllegalArgumentException("Contraction Hierarchies não aceita pesos negativos: " + weight);
+                    }
+                    if (w != u) {
+                        addEdge(u, w, weight, graph.outConnection(arc), -1, -1);
+                    }
+                }
+            }
+        }
+
+        void contractAll() {
+            IndexedMinHeap order = new IndexedMinHeap(n);
+            for (int v = 0; v < n; v++) {
+                order.insert(v, priority(v));
+            }
+
+            int level = 0;
+            while (!order.isEmpty()) {
+                int v = order.poll();
+
+                // Atualização preguiçosa: a prioridade pode ter subido desde a inserção
+                double current = priority(v);
+                if (!order.isEmpty() && current > order.peekKey()) {
+                    order.insert(v, current);
+                    continue;
+                }
+
+                contract(v);
+                rank[v] = level++;
+
+                // Vizinhos ganham um vizinho contraído e podem ter a prioridade reduzida
+                for (int i = 0; i < outSize[v]; i++) {
+                    touchNeighbour(order, edgeTo[out[v][i]], level);
+                }
+                for (int i = 0; i < inSize[v]; i++) {
+                    touchNeighbour(order, edgeFrom[in[v][i]], level);
+                }
+            }
+        }
+
+        private void touchNeighbour(IndexedMinHeap order, int w, int level) {
+            // Vizinho pelos dois sentidos conta uma vez só
+            if (contracted[w] || touched[w] == level) return;
+            touched[w] = level;
+            contractedNeighbours[w]++;
+            double p = priority(w);
+            if (p < order.getKey(w)) {
+                order.decreaseKey(w, p);
+            }
+        }
+
+        // Diferença de arestas mais vizinhos já contraídos
+        private double priority(int v) {
+            compactEdges(v);
+            findShortcuts(v);
+            return pendingCount - outSize[v] - inSize[v] + contractedNeighbours[v];
+        }
+
+        private void contract(int v) {
+            compactEdges(v);
+            findShortcuts(v);
+
+            // As arestas restantes de v levam a vértices que serão contraídos depois dele
+            up[v] = Arrays.copyOf(out[v], outSize[v]);
+            upSize[v] = outSize[v];
+            down[v] = Arrays.copyOf(in[v], inSize[v]);
+            downSize[v] = inSize[v];
+            contracted[v] = true;
+
+            for (int i = 0; i < pendingCount; i++) {
+                int first = pendingIn[i];
+                int second = pendingOut[i];
+                if (addEdge(edgeFrom[first], edgeTo[second], pendingWeight[i], -1, first, second)) {
+                    shortcutCount++;
+                }
+            }
+        }
+
+        // Remove das listas de v as arestas para vértices já contraídos
+        private void compactEdges(int v) {
+            int kept = 0;
+            for (int i = 0; i < outSize[v]; i++) {
+                int e = out[v][i];
+                if (!contracted[edgeTo[e]]) out[v][kept++] = e;
+            }
+            outSize[v] = kept;
+            kept = 0;
+            for (int i = 0; i < inSize[v]; i++) {
+                int e = in[v][i];
+                if (!contracted[edgeFrom[e]]) in[v][kept++] = e;
+            }
+            inSize[v] = kept;
+        }
+
+        // Preenche os atalhos pendentes necessários para contrair v
+        private void findShortcuts(int v) {
+            pendingCount = 0;
+            if (outSize[v] == 0) return;
+
+            double maxOut = 0.0;
+            for (int j = 0; j < outSize[v]; j++) {
+                maxOut = Math.max(maxOut, edgeWeight[out[v][j]]);
+            }
+
+            for (int i = 0; i < inSize[v]; i++) {
+                int inEdge = in[v][i];
+                int u = edgeFrom[inEdge];
+                double viaV = edgeWeight[inEdge];
+
+                witnessSearch(u, v, viaV + maxOut, outSize[v]);
+
+                for (int j = 0; j < outSize[v]; j++) {
+                    int outEdge = out[v][j];
+                    int w = edgeTo[outEdge];
+                    if (w == u) continue;
+                    double shortcut = viaV + edgeWeight[outEdge];
+                    if (witnessReached[w] == witnessQuery && witnessDistance[w] <= shortcut) continue;
+                    addPending(inEdge, outEdge, shortcut);
+                }
+            }
+        }
+
+        /**
+         * Dijkstra limitado a partir de u, sem passar por v nem por vértices contraídos.
+         * Para ao passar de maxDistance, ao atingir o limite de vértices fechados ou quando
+         * os vizinhos de saída de v (targets) já foram todos fechados.
+         */
+        private void witnessSearch(int u, int v, double maxDistance, int targets) {
+            if (++witnessQuery == Integer.MAX_VALUE) {
+                Arrays.fill(witnessReached, 0);
+                Arrays.fill(witnessTarget, 0);
+                witnessQuery = 1;
+            }
+            for (int j = 0; j < outSize[v]; j++) {
+                witnessTarget[edgeTo[out[v][j]]] = witnessQuery;
+            }
+            witnessQueue.clear();
+            witnessReached[u] = witnessQuery;
+            witnessDistance[u] = 0.0;
+            witnessQueue.insert(u, 0.0);
+
+            int settled = 0;
+            while (!witnessQueue.isEmpty() && settled++ < WITNESS_SETTLE_LIMIT) {
+                int x = witnessQueue.poll();
+                double dx = witnessDistance[x];
+                if (dx > maxDistance) break;
+                if (witnessTarget[x] == witnessQuery && --targets == 0) break;
+
+                for (int i = 0; i < outSize[x]; i++) {
+                    int e = out[x][i];
+                    int y = edgeTo[e];
+                    if (y == v || contracted[y]) continue;
+                    double candidate = dx + edgeWeight[e];
+                    if (candidate > maxDistance) continue;
+                    if (witnessReached[y] != witnessQuery || candidate < witnessDistance[y]) {
+                        witnessReached[y] = witnessQuery;
+                        witnessDistance[y] = candidate;
+                        witnessQueue.insertOrDecrease(y, candidate);
+                    }
+                }
+            }
+        }
+
+        private void addPending(int inEdge, int outEdge, double weight) {
+            if (pendingCount == pendingIn.length) {
+                pendingIn = Arrays.copyOf(pendingIn, pendingCount * 2);
+                pendingOut = Arrays.copyOf(pendingOut, pendingCount * 2);
+                pendingWeight = Arrays.copyOf(pendingWeight, pendingCount * 2);
+            }
+            pendingIn[pendingCount] = inEdge;
+            pendingOut[pendingCount] = outEdge;
+            pendingWeight[pendingCount] = weight;
+            pendingCount++;
+        }
+
+        /**
+         * Acrescenta u -> w, ou troca a aresta u -> w existente se a nova for mais leve.
+         *
+         * @return false se já havia uma aresta u -> w de peso menor ou igual
+         */
+        private boolean addEdge(int u, int w, double weight, int connection, int first, int second) {
+            int existing = -1;
+            int slot = -1;
+            for (int i = 0; i < outSize[u]; i++) {
+                int e = out[u][i];
+                if (edgeTo[e] == w) {
+                    existing = e;
+                    slot = i;
+                    break;
+                }
+            }
+            if (existing >= 0 && edgeWeight[existing] <= weight) {
+                return false;
+            }
+
+            int edge = newEdge(u, w, weight, connection, first, second);
+            if (existing >= 0) {
+                out[u][slot] = edge;
+                for (int i = 0; i < inSize[w]; i++) {
+                    if (in[w][i] == existing) {
+                        in[w][i] = edge;
+                        break;
+                    }
+                }
+            } else {
+                if (outSize[u] == out[u].length) out[u] = Arrays.copyOf(out[u], outSize[u] * 2);
+                out[u][outSize[u]++] = edge;
+                if (inSize[w] == in[w].length) in[w] = Arrays.copyOf(in[w], inSize[w] * 2);
+                in[w][inSize[w]++] = edge;
+            }
+            return true;
+        }
+
+        private int newEdge(int u, int w, double weight, int connection, int first, int second) {
+            if (edgeCount == edgeFrom.length) {
+                int capacity = edgeCount * 2;
+                edgeFrom = Arrays.copyOf(edgeFrom, capacity);
+                edgeTo = Arrays.copyOf(edgeTo, capacity);
+                edgeWeight = Arrays.copyOf(edgeWeight, capacity);
+                edgeConnection = Arrays.copyOf(edgeConnection, capacity);
+                edgeFirst = Arrays.copyOf(edgeFirst, capacity);
+                edgeSecond = Arrays.copyOf(edgeSecond, capacity);
+            }
+            edgeFrom[edgeCount] = u;
+            edgeTo[edgeCount] = w;
+            edgeWeight[edgeCount] = weight;
+            edgeConnection[edgeCount] = connection;
+            edgeFirst[edgeCount] = first;
+            edgeSecond[edgeCount] = second;
+            return edgeCount++;
+        }
+    }
+}
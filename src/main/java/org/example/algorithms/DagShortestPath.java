@@ -0,0 +1,135 @@
+package org.example.algorithms;
+
+import org.example.graph.Connection;
+import org.example.graph.GraphSnapshot;
+import org.example.graph.Vertex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Menores e maiores caminhos a partir de uma origem num grafo acíclico com arcos, em
+ * O(V + E): os vértices são relaxados uma única vez, na ordem topológica, sem fila de
+ * prioridade. Aceita pesos negativos.
+ */
+public class DagShortestPath {
+
+    public static class DagPathResult {
+        private final GraphSnapshot graph;
+        private final int source;
+        private final double[] distance;
+        private final int[] parentConnection;
+
+        private DagPathResult(GraphSnapshot graph, int source, double[] distance, int[] parentConnection) {
+            this.graph = graph;
+            this.source = source;
+            this.distance = distance;
+            this.parentConnection = parentConnection;
+        }
+
+        public int getSource() {
+            return source;
+        }
+
+        // Infinito (positivo nos menores, negativo nos maiores) se v não é alcançável
+        public double getDistance(int v) {
+            return distance[v];
+        }
+
+        public boolean hasPathTo(int v) {
+            return v == source || parentConnection[v] >= 0;
+        }
+
+        public int getParentConnection(int v) {
+            return parentConnection[v];
+        }
+
+        /** Ligações do caminho da origem até target; lista vazia se não houver caminho. */
+        public List<Connection> getPathConnections(int target) {
+            List<Connection> path = new ArrayList<>();
+            if (!hasPathTo(target)) {
+                return path;
+            }
+            for (int v = target; v != source; v = graph.getConnectionSource(parentConnection[v])) {
+                path.add(graph.getConnection(parentConnection[v]));
+            }
+            Collections.reverse(path);
+            return path;
+        }
+
+        public List<Vertex> getPath(int target) {
+            List<Vertex> path = new ArrayList<>();
+            if (!hasPathTo(target)) {
+                return path;
+            }
+            for (int v = target; ; v = graph.getConnectionSource(parentConnection[v])) {
+                path.add(graph.getVertex(v));
+                if (v == source) break;
+            }
+            Collections.reverse(path);
+            return path;
+        }
+    }
+
+    public static DagPathResult shortestPaths(GraphSnapshot graph, int source) {
+        return shortestPaths(graph, source, requireOrder(graph));
+    }
+
+    /** Reaproveita uma ordem topológica já calculada (TopologicalSort.sort). */
+    public static DagPathResult shortestPaths(GraphSnapshot graph, int source, int[] topologicalOrder) {
+        return relax(graph, source, topologicalOrder, 1.0);
+    }
+
+    public static DagPathResult longestPaths(GraphSnapshot graph, int source) {
+        return longestPaths(graph, source, requireOrder(graph));
+    }
+
+    public static DagPathResult longestPaths(GraphSnapshot graph, int source, int[] topologicalOrder) {
+        return relax(graph, source, topologicalOrder, -1.0);
+    }
+
+    private static int[] requireOrder(GraphSnapshot graph) {
+        int[] order = TopologicalSort.sort(graph);
+        if (order == null) {
+            throw new IllegalArgumentException("O grafo possui ciclo: não há ordem topológica.");
+        }
+        return order;
+    }
+
+    // Maior caminho = menor caminho com os pesos negados (sign = -1)
+    private static DagPathResult relax(GraphSnapshot graph, int source, int[] order, double sign) {
+        int n = graph.getVertexCount();
+        double[] distance = new double[n];
+        int[] parentConnection = new int[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        Arrays.fill(parentConnection, -1);
+        distance[source] = 0.0;
+
+        // Nada antes da origem na ordem é alcançável
+        int first = 0;
+        while (order[first] != source) first++;
+
+        for (int i = first; i < n; i++) {
+            int u = order[i];
+            if (distance[u] == Double.POSITIVE_INFINITY) continue;
+
+            for (int arc = graph.outBegin(u), end = graph.outEnd(u); arc < end; arc++) {
+                int w = graph.outTarget(arc);
+                double candidate = distance[u] + sign * graph.outWeight(arc);
+                if (candidate < distance[w]) {
+                    distance[w] = candidate;
+                    parentConnection[w] = graph.outConnection(arc);
+                }
+            }
+        }
+
+        if (sign < 0) {
+            for (int v = 0; v < n; v++) {
+                distance[v] = -distance[v];
+            }
+        }
+        return new DagPathResult(graph, source, distance, parentConnection);
+    }
+}
@@ -2,11 +2,17 @@
 package org.example.algorithms;
 
 import org.example.graph.Connection;
+import org.example.graph.GraphSnapshot;
 import org.example.graph.Vertex;
 
 import java.util.*;
 
 public class DepthFirstSearch {
+    /**
+     * Resultado de uma busca em profundidade. Quando vem de uma busca sobre GraphSnapshot, é
+     * apoiado diretamente nos vetores da busca: listas e mapas são visões somente leitura e
+     * tempos e pais são consultados em O(1) pelo id do vértice.
+     */
     public static class DFSResult {
     private final List<Connection> treeEdges;
     private final List<Vertex> visitOrder;
@@ -15,35 +21,68 @@ public class DepthFirstSearch {
     private final Map<Vertex, Vertex> parents;
     private final Vertex startVertex;
 
+    // Apenas no resultado apoiado em vetores (null no construtor com coleções)
+    private final GraphSnapshot graph;
+    private final int[] discovery;
+    private final int[] finish;
+    private final int[] parentConnection;
+
+    // As coleções recebidas não são copiadas, apenas expostas como somente leitura
     public DFSResult(List<Connection> treeEdges, List<Vertex> visitOrder,
                      Map<Vertex, Integer> discoveryTimes, Map<Vertex, Integer> finishTimes,
                      Map<Vertex, Vertex> parents, Vertex startVertex) {
-        this.treeEdges = new ArrayList<>(treeEdges);
-        this.visitOrder = new ArrayList<>(visitOrder);
-        this.discoveryTimes = new HashMap<>(discoveryTimes);
-        this.finishTimes = new HashMap<>(finishTimes);
-        this.parents = new HashMap<>(parents);
+        this.treeEdges = Collections.unmodifiableList(treeEdges);
+        this.visitOrder = Collections.unmodifiableList(visitOrder);
+        this.discoveryTimes = Collections.unmodifiableMap(discoveryTimes);
+        this.finishTimes = Collections.unmodifiableMap(finishTimes);
+        this.parents = Collections.unmodifiableMap(parents);
         this.startVertex = startVertex;
+        this.graph = null;
+        this.discovery = null;
+        this.finish = null;
+        this.parentConnection = null;
+    }
+
+    private DFSResult(GraphSnapshot graph, int[] order, int visitedCount, int[] discovery,
+                      int[] finish, int[] parentConnection, Vertex startVertex) {
+        this.graph = graph;
+        this.discovery = discovery;
+        this.finish = finish;
+        this.parentConnection = parentConnection;
+        this.startVertex = startVertex;
+        this.visitOrder = TraversalViews.vertices(graph, order, visitedCount, discovery);
+        this.treeEdges = TraversalViews.treeEdges(graph, order, visitedCount, parentConnection);
+        this.discoveryTimes = TraversalViews.values(graph, order, visitedCount, discovery, discovery);
+        this.finishTimes = TraversalViews.values(graph, order, visitedCount, discovery, finish);
+        this.parents = TraversalViews.parents(graph, order, visitedCount, discovery, parentConnection, false);
+    }
+
+    // Resultado apoiado nos vetores de uma busca sobre GraphSnapshot: discovery[v] é -1 nos
+    // vértices não visitados e parentConnection[v] é a ligação da árvore que alcançou v (-1 na raiz)
+    static DFSResult fromArrays(GraphSnapshot graph, int[] order, int visitedCount,
+                                int[] discovery, int[] finish, int[] parentConnection,
+                                Vertex startVertex) {
+        return new DFSResult(graph, order, visitedCount, discovery, finish, parentConnection, startVertex);
     }
 
     public List<Connection> getTreeEdges() {
-        return new ArrayList<>(treeEdges);
+        return treeEdges;
     }
 
     public List<Vertex> getVisitOrder() {
-        return new ArrayList<>(visitOrder);
+        return visitOrder;
     }
 
     public Map<Vertex, Integer> getDiscoveryTimes() {
-        return new HashMap<>(discoveryTimes);
+        return discoveryTimes;
     }
 
     public Map<Vertex, Integer> getFinishTimes() {
-        return new HashMap<>(finishTimes);
+        return finishTimes;
     }
 
     public Map<Vertex, Vertex> getParents() {
-        return new HashMap<>(parents);
+        return parents;
     }
 
     public Vertex getStartVertex() {
@@ -59,26 +98,69 @@ public class DepthFirstSearch {
     }
 
     public int getDiscoveryTime(Vertex vertex) {
+        if (graph != null) {
+            int v = graph.indexOf(vertex);
+            return v >= 0 ? discovery[v] : -1;
+        }
         return discoveryTimes.getOrDefault(vertex, -1);
     }
 
     public int getFinishTime(Vertex vertex) {
+        if (graph != null) {
+            int v = graph.indexOf(vertex);
+            return v >= 0 && discovery[v] >= 0 ? finish[v] : -1;
+        }
         return finishTimes.getOrDefault(vertex, -1);
     }
 
+    // --- Acesso por id (apenas no resultado apoiado em vetores) ---
+
+    public GraphSnapshot getGraph() {
+        return graph;
+    }
+
+    public int getDiscoveryTime(int vertexId) {
+        return discovery[vertexId];
+    }
+
+    public int getFinishTime(int vertexId) {
+        return discovery[vertexId] >= 0 ? finish[vertexId] : -1;
+    }
+
+    public int getParentConnection(int vertexId) {
+        return parentConnection[vertexId];
+    }
+
     public List<Vertex> getPathToVertex(Vertex target) {
+        if (graph != null) {
+            int v = graph.indexOf(target);
+            if (v < 0 || discovery[v] < 0) {
+                return new ArrayList<>();
+            }
+
+            List<Vertex> path = new ArrayList<>();
+            while (v >= 0) {
+                path.add(graph.getVertex(v));
+                int connection = parentConnection[v];
+                v = connection >= 0 ? TraversalViews.otherEndpoint(graph, connection, v) : -1;
+            }
+            Collections.reverse(path);
+            return path;
+        }
+
         List<Vertex> path = new ArrayList<>();
         Vertex current = target;
 
         while (current != null) {
-            path.add(0, current);
+            path.add(current);
             current = parents.get(current);
         }
 
-        if (path.isEmpty() || !path.get(0).equals(startVertex)) {
+        if (path.isEmpty() || !path.get(path.size() - 1).equals(startVertex)) {
             return new ArrayList<>();
         }
 
+        Collections.reverse(path);
         return path;
     }
 }
@@ -96,186 +178,112 @@ public class DepthFirstSearch {
             return null;
         }
 
-        if (!vertexList.contains(startVertex)) {
-            return null;
-        }
-
-        Set<Vertex> visited = new HashSet<>();
-        List<Vertex> visitOrder = new ArrayList<>();
-        List<Connection> treeEdges = new ArrayList<>();
-        Map<Vertex, Integer> discoveryTimes = new HashMap<>();
-        Map<Vertex, Integer> finishTimes = new HashMap<>();
-        Map<Vertex, Vertex> parents = new HashMap<>();
-
-        int[] time = {0};
-
-        dfsRecursive(startVertex, connectionList, visited, visitOrder, treeEdges,
-                discoveryTimes, finishTimes, parents, time);
-
-        return new DFSResult(treeEdges, visitOrder, discoveryTimes, finishTimes, parents, startVertex);
+        // Os arcos de saída do snapshot são exatamente os vizinhos alcançáveis de cada vértice
+        return performDFS(GraphSnapshot.of(vertexList, connectionList), startVertex);
     }
 
-    private static void dfsRecursive(Vertex current, List<Connection> connectionList,
-                                     Set<Vertex> visited, List<Vertex> visitOrder,
-                                     List<Connection> treeEdges, Map<Vertex, Integer> discoveryTimes,
-                                     Map<Vertex, Integer> finishTimes, Map<Vertex, Vertex> parents,
-                                     int[] time) {
-
-        visited.add(current);
-        visitOrder.add(current);
-        discoveryTimes.put(current, time[0]++);
-
-        for (Connection connection : connectionList) {
-            Vertex neighbor = getOtherVertex(connection, current);
-
-            if (neighbor != null && !visited.contains(neighbor)) {
-                treeEdges.add(connection);
-                parents.put(neighbor, current);
-
-                dfsRecursive(neighbor, connectionList, visited, visitOrder, treeEdges,
-                        discoveryTimes, finishTimes, parents, time);
-            }
-        }
-
-        finishTimes.put(current, time[0]++);
-    }
-
-     public static DFSResult performDFSIterative(List<Vertex> vertexList,
-                                                List<Connection> connectionList,
-                                                Vertex startVertex) {
-
-        if (vertexList == null || connectionList == null || startVertex == null) {
-            return null;
-        }
-
-        if (vertexList.isEmpty()) {
+    public static DFSResult performDFS(GraphSnapshot graph, Vertex startVertex) {
+        if (graph == null || startVertex == null) {
             return null;
         }
 
-        if (!vertexList.contains(startVertex)) {
+        int start = graph.indexOf(startVertex);
+        if (start < 0) {
             return null;
         }
 
-        Stack<Vertex> stack = new Stack<>();
-        Set<Vertex> visited = new HashSet<>();
-        List<Vertex> visitOrder = new ArrayList<>();
-        List<Connection> treeEdges = new ArrayList<>();
-        Map<Vertex, Integer> discoveryTimes = new HashMap<>();
-        Map<Vertex, Integer> finishTimes = new HashMap<>();
-        Map<Vertex, Vertex> parents = new HashMap<>();
-
-        int time = 0;
-
-        stack.push(startVertex);
-
-        while (!stack.isEmpty()) {
-            Vertex current = stack.peek();
-
-            if (!visited.contains(current)) {
-                visited.add(current);
-                visitOrder.add(current);
-                discoveryTimes.put(current, time++);
-
-                boolean hasUnvisitedNeighbor = false;
-                for (Connection connection : connectionList) {
-                    Vertex neighbor = getOtherVertex(connection, current);
+        IterativeDFS dfs = IterativeDFS.outgoing(graph);
+        dfs.run(start);
 
-                    if (neighbor != null && !visited.contains(neighbor)) {
-                        stack.push(neighbor);
-                        parents.put(neighbor, current);
-                        treeEdges.add(connection);
-                        hasUnvisitedNeighbor = true;
-                        break;
-                    }
-                }
-
-                if (!hasUnvisitedNeighbor) {
-                    stack.pop();
-                    finishTimes.put(current, time++);
-                }
-            } else {
-                stack.pop();
-                if (!finishTimes.containsKey(current)) {
-                    finishTimes.put(current, time++);
-                }
-            }
+        int n = graph.getVertexCount();
+        int[] parentConnection = new int[n];
+        for (int v = 0; v < n; v++) {
+            int arc = dfs.getParentArc(v);
+            parentConnection[v] = arc >= 0 ? graph.outConnection(arc) : -1;
         }
 
-        return new DFSResult(treeEdges, visitOrder, discoveryTimes, finishTimes, parents, startVertex);
+        return DFSResult.fromArrays(graph, dfs.discoveryOrder(), dfs.getVisitedCount(),
+                dfs.discoveryTimes(), dfs.finishTimes(), parentConnection, startVertex);
     }
 
-
-    private static Vertex getOtherVertex(Connection connection, Vertex vertex) {
-        if (connection.getSource().equals(vertex)) {
-            return connection.getTarget();
-        } else if (connection.getTarget().equals(vertex) && !connection.isDirected()) {
-            return connection.getSource();
-        } else if (connection.getTarget().equals(vertex) && connection.isDirected()) {
-            return null;
-        }
-        return null;
+    // Mantido por compatibilidade: a busca principal já é iterativa
+    public static DFSResult performDFSIterative(List<Vertex> vertexList,
+                                               List<Connection> connectionList,
+                                               Vertex startVertex) {
+        return performDFS(vertexList, connectionList, startVertex);
     }
 
 
+    // Uma busca a partir de cada vértice ainda fora de componentes, reaproveitando os mesmos vetores
     public static List<List<Vertex>> findConnectedComponents(List<Vertex> vertexList,
                                                              List<Connection> connectionList) {
         List<List<Vertex>> components = new ArrayList<>();
-        Set<Vertex> globalVisited = new HashSet<>();
-
-        for (Vertex vertex : vertexList) {
-            if (!globalVisited.contains(vertex)) {
-                DFSResult result = performDFS(vertexList, connectionList, vertex);
-                if (result != null) {
-                    List<Vertex> component = result.getVisitOrder();
-                    components.add(component);
-                    globalVisited.addAll(component);
+        GraphSnapshot graph = GraphSnapshot.of(vertexList, connectionList);
+        int n = graph.getVertexCount();
+        boolean[] assigned = new boolean[n];
+        int[] searchMark = new int[n];
+        int[] stack = new int[n];
+        int[] cursor = new int[n];
+        int[] order = new int[n];
+        int search = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (assigned[root]) continue;
+
+            // Cada busca tem a sua marca, então não é preciso limpar os vetores entre buscas
+            search++;
+            int visitedCount = 0;
+            int top = 0;
+            searchMark[root] = search;
+            order[visitedCount++] = root;
+            cursor[root] = graph.outBegin(root);
+            stack[top++] = root;
+
+            while (top > 0) {
+                int current = stack[top - 1];
+                if (cursor[current] < graph.outEnd(current)) {
+                    int neighbor = graph.outTarget(cursor[current]++);
+                    if (searchMark[neighbor] != search) {
+                        searchMark[neighbor] = search;
+                        order[visitedCount++] = neighbor;
+                        cursor[neighbor] = graph.outBegin(neighbor);
+                        stack[top++] = neighbor;
+                    }
+                } else {
+                    top--;
                 }
             }
+
+            List<Vertex> component = new ArrayList<>(visitedCount);
+            for (int i = 0; i < visitedCount; i++) {
+                component.add(graph.getVertex(order[i]));
+                assigned[order[i]] = true;
+            }
+            components.add(component);
         }
 
         return components;
     }
 
 
+    /**
+     * true se há caminho de source a target usando só os vértices e ligações das listas dadas.
+     * Monta um GraphSnapshot a cada chamada, então custa O(V + E) mesmo com a parada
+     * antecipada da busca bidirecional. Para muitas consultas, reaproveite um snapshot com
+     * {@link BidirectionalSearch#hasPath(GraphSnapshot, int, int)} ou use as listas de
+     * incidência dos vértices com {@link BidirectionalSearch#hasPath(Vertex, Vertex)}.
+     */
     public static boolean hasPath(List<Vertex> vertexList, List<Connection> connectionList,
                                   Vertex source, Vertex target) {
-        DFSResult result = performDFS(vertexList, connectionList, source);
-        return result != null && result.getVisitOrder().contains(target);
+        GraphSnapshot graph = GraphSnapshot.of(vertexList, connectionList);
+        int s = graph.indexOf(source);
+        int t = graph.indexOf(target);
+        return s >= 0 && t >= 0 && BidirectionalSearch.hasPath(graph, s, t);
     }
 
 
+    // Três cores: vale para arcos (ciclo dirigido) e para arestas (sem contar a volta pela mesma aresta)
     public static boolean hasCycle(List<Vertex> vertexList, List<Connection> connectionList) {
-        Set<Vertex> visited = new HashSet<>();
-
-        for (Vertex vertex : vertexList) {
-            if (!visited.contains(vertex)) {
-                if (hasCycleDFS(vertex, null, connectionList, visited)) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
-    }
-
-    private static boolean hasCycleDFS(Vertex current, Vertex parent,
-                                       List<Connection> connectionList, Set<Vertex> visited) {
-        visited.add(current);
-
-        for (Connection connection : connectionList) {
-            Vertex neighbor = getOtherVertex(connection, current);
-
-            if (neighbor != null) {
-                if (!visited.contains(neighbor)) {
-                    if (hasCycleDFS(neighbor, current, connectionList, visited)) {
-                        return true;
-                    }
-                } else if (!neighbor.equals(parent)) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
+        return TopologicalSort.findCycle(GraphSnapshot.of(vertexList, connectionList)) != null;
     }
-}
\ No newline at end of file
+}
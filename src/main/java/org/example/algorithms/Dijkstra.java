@@ -0,0 +1,235 @@
+package org.example.algorithms;
+
+import org.example.graph.Connection;
+import org.example.graph.GraphSnapshot;
+import org.example.graph.Vertex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Caminhos mínimos a partir de uma ou mais origens (Dijkstra) sobre os pesos das
+ * ligações, com a fila de prioridade escolhida pelo chamador:
+ * <ul>
+ *   <li>BINARY: heap binário indexado (padrão);</li>
+ *   <li>PAIRING: pairing heap, decrease-key O(1);</li>
+ *   <li>RADIX: heap radix, só para pesos inteiros (como as distâncias do grafo_parana).</li>
+ * </ul>
+ * A busca pode parar quando todos os vértices de um conjunto de destinos forem fechados
+ * e pode ignorar vértices além de uma distância máxima. Distâncias e árvore de pais são
+ * devolvidas em vetores primitivos indexados pelo id do vértice.
+ *
+ * Uma instância reaproveita a fila entre execuções no mesmo grafo.
+ */
+public class Dijkstra {
+
+    public enum HeapType { BINARY, PAIRING, RADIX }
+
+    /**
+     * Árvore de caminhos mínimos. Apenas vértices fechados pela busca têm distância e pai;
+     * os demais ficam com distância infinita e pai -1.
+     */
+    public static class ShortestPathTree {
+        private final GraphSnapshot graph;
+        private final double[] distance;
+        private final int[] parentConnection;
+        private final int settledCount;
+
+        private ShortestPathTree(GraphSnapshot graph, double[] distance, int[] parentConnection, int settledCount) {
+            this.graph = graph;
+            this.distance = distance;
+            this.parentConnection = parentConnection;
+            this.settledCount = settledCount;
+        }
+
+        public double getDistance(int v) {
+            return distance[v];
+        }
+
+        public boolean hasPathTo(int v) {
+            return distance[v] != Double.POSITIVE_INFINITY;
+        }
+
+        // Ligação da árvore que chega a v (id do snapshot), -1 numa origem ou fora da árvore
+        public int getParentConnection(int v) {
+            return parentConnection[v];
+        }
+
+        public int getSettledCount() {
+            return settledCount;
+        }
+
+        /** Vetor de distâncias por id de vértice (sem cópia). */
+        public double[] getDistances() {
+            return distance;
+        }
+
+        /** Vetor de ligações-pai por id de vértice (sem cópia). */
+        public int[] getParentConnections() {
+            return parentConnection;
+        }
+
+        public List<Connection> getPathConnections(int target) {
+            List<Connection> path = new ArrayList<>();
+            if (!hasPathTo(target)) {
+                return path;
+            }
+            for (int v = target; parentConnection[v] >= 0; ) {
+                int connection = parentConnection[v];
+                path.add(graph.getConnection(connection));
+                v = TraversalViews.otherEndpoint(graph, connection, v);
+            }
+            Collections.reverse(path);
+            return path;
+        }
+
+        public List<Vertex> getPath(int target) {
+            List<Vertex> path = new ArrayList<>();
+            if (!hasPathTo(target)) {
+                return path;
+            }
+            int v = target;
+            path.add(graph.getVertex(v));
+            while (parentConnection[v] >= 0) {
+                v = TraversalViews.otherEndpoint(graph, parentConnection[v], v);
+                path.add(graph.getVertex(v));
+            }
+            Collections.reverse(path);
+            return path;
+        }
+    }
+
+    private final GraphSnapshot graph;
+    private final boolean reverse;
+    private final IntPriorityQueue queue;
+    private int[] targetMark;
+    private int targetEpoch = 0;
+
+    public Dijkstra(GraphSnapshot graph) {
+        this(graph, HeapType.BINARY);
+    }
+
+    public Dijkstra(GraphSnapshot graph, HeapType heapType) {
+        this(graph, heapType, false);
+    }
+
+    /**
+     * @param reverse segue os arcos de entrada: as distâncias passam a ser de cada vértice
+     *                até as origens (grafo transposto)
+     */
+    public Dijkstra(GraphSnapshot graph, HeapType heapType, boolean reverse) {
+        this.graph = graph;
+        this.reverse = reverse;
+        for (int arc = 0; arc < graph.getArcCount(); arc++) {
+            double weight = graph.outWeight(arc);
+            if (weight < 0) {
+                throw new IllegalArgumentException("Dijkstra não aceita pesos negativos: " + weight);
+            }
+            if (heapType == HeapType.RADIX && weight != Math.rint(weight)) {
+                throw new IllegalArgumentException("O heap radix exige pesos inteiros: " + weight);
+            }
+        }
+
+        int n = graph.getVertexCount();
+        queue = switch (heapType) {
+            case BINARY -> new IndexedMinHeap(n);
+            case PAIRING -> new PairingHeap(n);
+            case RADIX -> new RadixHeap(n);
+        };
+    }
+
+    public static ShortestPathTree shortestPaths(GraphSnapshot graph, Vertex source) {
+        int s = graph.indexOf(source);
+        if (s < 0) {
+            throw new IllegalArgumentException("Vértice fora do grafo: " + source.getId());
+        }
+        return new Dijkstra(graph).run(s);
+    }
+
+    public ShortestPathTree run(int source) {
+        return run(new int[]{source}, null, Double.POSITIVE_INFINITY);
+    }
+
+    public ShortestPathTree run(int source, int target) {
+        return run(new int[]{source}, new int[]{target}, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * @param sources     origens, todas com distância 0
+     * @param targets     para assim que todos forem fechados (null = sem destinos)
+     * @param maxDistance vértices mais distantes que isso não são alcançados
+     */
+    public ShortestPathTree run(int[] sources, int[] targets, double maxDistance) {
+        int n = graph.getVertexCount();
+        double[] distance = new double[n];
+        int[] parentConnection = new int[n];
+        boolean[] settled = new boolean[n];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        Arrays.fill(parentConnection, -1);
+        queue.clear();
+
+        int remaining = targets != null ? markTargets(targets) : -1;
+
+        for (int s : sources) {
+            distance[s] = 0.0;
+            queue.insertOrDecrease(s, 0.0);
+        }
+
+        int settledCount = 0;
+        boolean stoppedEarly = false;
+
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            settled[u] = true;
+            settledCount++;
+
+            if (remaining > 0 && targetMark[u] == targetEpoch && --remaining == 0) {
+                stoppedEarly = !queue.isEmpty();
+                break;
+            }
+
+            double du = distance[u];
+            int begin = reverse ? graph.inBegin(u) : graph.outBegin(u);
+            int end = reverse ? graph.inEnd(u) : graph.outEnd(u);
+            for (int arc = begin; arc < end; arc++) {
+                int w = reverse ? graph.inSource(arc) : graph.outTarget(arc);
+                double candidate = du + (reverse ? graph.inWeight(arc) : graph.outWeight(arc));
+                if (candidate < distance[w] && candidate <= maxDistance) {
+                    distance[w] = candidate;
+                    parentConnection[w] = reverse ? graph.inConnection(arc) : graph.outConnection(arc);
+                    queue.insertOrDecrease(w, candidate);
+                }
+            }
+        }
+
+        // Distâncias ainda provisórias não fazem parte do resultado
+        if (stoppedEarly) {
+            for (int v = 0; v < n; v++) {
+                if (!settled[v]) {
+                    distance[v] = Double.POSITIVE_INFINITY;
+                    parentConnection[v] = -1;
+                }
+            }
+        }
+
+        return new ShortestPathTree(graph, distance, parentConnection, settledCount);
+    }
+
+    // Marca os destinos distintos e devolve quantos são
+    private int markTargets(int[] targets) {
+        if (targetMark == null) {
+            targetMark = new int[graph.getVertexCount()];
+        }
+        targetEpoch++;
+        int distinct = 0;
+        for (int t : targets) {
+            if (targetMark[t] != targetEpoch) {
+                targetMark[t] = targetEpoch;
+                distinct++;
+            }
+        }
+        return distinct;
+    }
+}
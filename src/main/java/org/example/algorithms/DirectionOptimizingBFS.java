@@ -0,0 +1,133 @@
+package org.example.algorithms;
+
+import org.example.graph.GraphSnapshot;
+import org.example.graph.Vertex;
+
+import java.util.Arrays;
+
+/**
+ * Busca em largura com otimização de direção (Beamer et al.). Enquanto a fronteira é
+ * pequena a expansão é top-down: cada vértice da fronteira percorre os seus arcos de saída.
+ * Quando a fronteira fica grande, a busca passa a ser bottom-up: cada vértice ainda não
+ * visitado procura, pelos arcos de entrada, um pai na fronteira e para no primeiro.
+ * Nos níveis do meio de grafos de diâmetro pequeno isso evita examinar a maioria dos arcos.
+ *
+ * Fronteira e visitados ficam em bitmaps; distâncias e pais em vetores int.
+ */
+public class DirectionOptimizingBFS {
+    // Parâmetros de troca sugeridos no artigo original
+    public static final int DEFAULT_ALPHA = 14;
+    public static final int DEFAULT_BETA = 24;
+
+    public static BreadthFirstSearch.BFSResult performBFS(GraphSnapshot graph, Vertex startVertex) {
+        return performBFS(graph, startVertex, DEFAULT_ALPHA, DEFAULT_BETA);
+    }
+
+    /**
+     * @param alpha passa para bottom-up quando os arcos da fronteira superam 1/alpha dos
+     *              arcos ainda não examinados
+     * @param beta  volta para top-down quando a fronteira tem menos de n/beta vértices
+     */
+    public static BreadthFirstSearch.BFSResult performBFS(GraphSnapshot graph, Vertex startVertex,
+                                                          int alpha, int beta) {
+        if (graph == null || startVertex == null) {
+            return null;
+        }
+
+        int start = graph.indexOf(startVertex);
+        if (start < 0) {
+            return null;
+        }
+
+        int n = graph.getVertexCount();
+        int[] order = new int[n];
+        int[] distance = new int[n];
+        int[] parentConnection = new int[n];
+        Arrays.fill(distance, -1);
+
+        int words = (n + 63) >>> 6;
+        long[] visited = new long[words];
+        long[] frontier = new long[words];
+
+        order[0] = start;
+        int visitedCount = 1;
+        distance[start] = 0;
+        parentConnection[start] = -1;
+        visited[start >>> 6] |= 1L << start;
+
+        // Nível atual = order[levelBegin, levelEnd)
+        int levelBegin = 0;
+        int levelEnd = 1;
+        long unexploredArcs = graph.getArcCount() - graph.outDegree(start);
+        long frontierArcs = graph.outDegree(start);
+        boolean bottomUp = false;
+        int level = 0;
+
+        while (levelBegin < levelEnd) {
+            int frontierSize = levelEnd - levelBegin;
+            if (!bottomUp && frontierArcs > unexploredArcs / alpha) {
+                bottomUp = true;
+            } else if (bottomUp && frontierSize < n / beta) {
+                bottomUp = false;
+            }
+
+            int nextDistance = level + 1;
+            long nextFrontierArcs = 0;
+
+            if (bottomUp) {
+                Arrays.fill(frontier, 0L);
+                for (int i = levelBegin; i < levelEnd; i++) {
+                    int u = order[i];
+                    frontier[u >>> 6] |= 1L << u;
+                }
+
+                // Percorre só os vértices não visitados, palavra a palavra
+                for (int w = 0; w < words; w++) {
+                    long unvisited = ~visited[w];
+                    if (w == words - 1 && (n & 63) != 0) {
+                        unvisited &= (1L << (n & 63)) - 1;
+                    }
+                    while (unvisited != 0) {
+                        int v = (w << 6) + Long.numberOfTrailingZeros(unvisited);
+                        unvisited &= unvisited - 1;
+
+                        for (int arc = graph.inBegin(v), end = graph.inEnd(v); arc < end; arc++) {
+                            int u = graph.inSource(arc);
+                            if ((frontier[u >>> 6] & (1L << u)) != 0) {
+                                distance[v] = nextDistance;
+                                parentConnection[v] = graph.inConnection(arc);
+                                visited[w] |= 1L << v;
+                                order[visitedCount++] = v;
+                                nextFrontierArcs += graph.outDegree(v);
+                                break;
+                            }
+                        }
+                    }
+                }
+            } else {
+                for (int i = levelBegin; i < levelEnd; i++) {
+                    int u = order[i];
+                    for (int arc = graph.outBegin(u), end = graph.outEnd(u); arc < end; arc++) {
+                        int v = graph.outTarget(arc);
+                        if ((visited[v >>> 6] & (1L << v)) == 0) {
+                            visited[v >>> 6] |= 1L << v;
+                            distance[v] = nextDistance;
+                            parentConnection[v] = graph.outConnection(arc);
+                            order[visitedCount++] = v;
+                            nextFrontierArcs += graph.outDegree(v);
+                        }
+                    }
+                }
+            }
+
+            unexploredArcs -= nextFrontierArcs;
+            frontierArcs = nextFrontierArcs;
+            levelBegin = levelEnd;
+            levelEnd = visitedCount;
+            level++;
+        }
+
+        return BreadthFirstSearch.BFSResult.fromArrays(graph, order, visitedCount, distance, parentConnection,
+                startVertex);
+    }
+}
@@ -0,0 +1,544 @@
+package org.example.algorithms;
+
+import org.example.graph.Connection;
+import org.example.graph.Vertex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Floresta geradora mínima mantida dinamicamente a cada edição do grafo (ligações tratadas
+ * como não dirigidas).
+ *
+ * A floresta fica numa link-cut tree em que cada ligação da árvore é um nó próprio,
+ * pendurado entre os seus dois vértices, e cada nó de árvore splay guarda o nó de maior
+ * peso da sua subárvore. Assim:
+ * - inserção: se os extremos estão em árvores diferentes a ligação entra direto; senão a
+ *   ligação mais pesada do ciclo formado é encontrada em O(log n) amortizado e trocada
+ *   se for mais pesada que a nova;
+ * - remoção de ligação fora da árvore: O(log n);
+ * - remoção de ligação da árvore: duas buscas em largura intercaladas, uma de cada lado,
+ *   param assim que o lado menor termina; a substituta é a ligação mais leve que sai dele.
+ *   O custo é proporcional ao grau total do lado menor, pequeno na maioria dos cortes;
+ * - alteração de peso: reduzida aos casos acima, e em O(log n) quando a ligação continua
+ *   onde estava (ligação da árvore mais leve ou ligação fora dela mais pesada).
+ */
+public final class DynamicMST {
+    private static final int NIL = -1;
+
+    // Link-cut tree: filhos e pai na árvore splay (o pai de uma raiz splay é o path-parent)
+    private int[] left;
+    private int[] right;
+    private int[] parent;
+    private boolean[] flipped;
+    private double[] value;
+    private int[] best;
+    private int[] splayStack;
+
+    // Dados dos nós de ligação
+    private Connection[] connectionOf;
+    private int[] endpointA;
+    private int[] endpointB;
+    private int[] slotA;
+    private int[] slotB;
+    private boolean[] inTree;
+
+    // Ligações incidentes a cada nó de vértice (laços ficam de fora: nunca entram na árvore)
+    private int[][] incident;
+    private int[] incidentSize;
+
+    // Busca do lado menor após um corte
+    private int[] mark;
+    private int stamp = 0;
+    private int[] queueA;
+    private int[] queueB;
+
+    private int nodeCount = 0;
+    private int[] freeNodes = new int[16];
+    private int freeCount = 0;
+
+    private final Map<Vertex, Integer> vertexNodes = new HashMap<>();
+    private final Map<Connection, Integer> connectionNodes = new HashMap<>();
+    private final Set<Connection> treeEdges = new LinkedHashSet<>();
+    private final Set<Connection> treeEdgesView = Collections.unmodifiableSet(treeEdges);
+    private double totalWeight = 0.0;
+
+    public DynamicMST(List<Vertex> vertexList, List<Connection> connectionList) {
+        this(vertexList, connectionList, initialForest(vertexList, connectionList));
+    }
+
+    // Kruskal devolve null para o grafo vazio: começa com a floresta vazia
+    private static Collection<Connection> initialForest(List<Vertex> vertexList, List<Connection> connectionList) {
+        Prim.PrimResult result = Kruskal.findMinimumSpanningForest(vertexList, connectionList);
+        return result != null ? result.getMstEdges() : List.of();
+    }
+
+    /**
+     * Monta a estrutura a partir de uma floresta geradora mínima já calculada (por exemplo
+     * pelo Prim): as ligações da floresta são penduradas na link-cut tree e as demais
+     * ficam fora dela sem nenhuma verificação.
+     */
+    public DynamicMST(List<Vertex> vertexList, List<Connection> connectionList, Collection<Connection> forest) {
+        int capacity = Math.max(16, vertexList.size() + connectionList.size());
+        allocate(capacity);
+
+        for (Vertex vertex : vertexList) {
+            vertexAdded(vertex);
+        }
+        for (Connection connection : forest) {
+            int e = track(connection);
+            if (e != NIL) insertEdge(e);
+        }
+        for (Connection connection : connectionList) {
+            if (!connectionNodes.containsKey(connection)) {
+                track(connection);
+            }
+        }
+    }
+
+    // --- Consultas ------------------------------------------------------
+
+    /** Visão somente leitura e viva das ligações da floresta. */
+    public Set<Connection> getTreeEdges() { return treeEdgesView; }
+
+    public boolean isTreeEdge(Connection connection) { return treeEdges.contains(connection); }
+
+    public double getTotalWeight() { return totalWeight; }
+
+    public int getEdgeCount() { return treeEdges.size(); }
+
+    /** Número de árvores da floresta (uma por componente conexa). */
+    public int getTreeCount() { return vertexNodes.size() - treeEdges.size(); }
+
+    public boolean areConnected(Vertex v1, Vertex v2) {
+        Integer a = vertexNodes.get(v1);
+        Integer b = vertexNodes.get(v2);
+        return a != null && b != null && connected(a, b);
+    }
+
+    // --- Edições ----------------------------------------------------------
+
+    public void vertexAdded(Vertex vertex) {
+        if (vertexNodes.containsKey(vertex)) return;
+        vertexNodes.put(vertex, newNode(Double.NEGATIVE_INFINITY));
+    }
+
+    // Remove também todas as ligações incidentes ao vértice
+    public void vertexRemoved(Vertex vertex) {
+        Integer node = vertexNodes.get(vertex);
+        if (node == null) return;
+
+        for (Connection connection : new ArrayList<>(vertex.getIncidentConnections())) {
+            connectionRemoved(connection);
+        }
+        vertexNodes.remove(vertex);
+        freeNode(node);
+    }
+
+    public void connectionAdded(Connection connection) {
+        if (connectionNodes.containsKey(connection)) return;
+
+        int e = track(connection);
+        if (e != NIL) insertEdge(e);
+    }
+
+    public void connectionRemoved(Connection connection) {
+        Integer node = connectionNodes.remove(connection);
+        if (node == null) return;
+
+        int e = node;
+        detach(e);
+        if (inTree[e]) {
+            cutEdge(e);
+            findReplacement(endpointA[e], endpointB[e]);
+        }
+        freeNode(e);
+    }
+
+    public void weightChanged(Connection connection) {
+        Integer node = connectionNodes.get(connection);
+        if (node == null) return;
+
+        int e = node;
+        double oldWeight = value[e];
+        double newWeight = connection.getWeight();
+        if (newWeight == oldWeight) return;
+
+        if (inTree[e]) {
+            if (newWeight < oldWeight) {
+                // Continua na árvore: basta atualizar o agregado do caminho
+                access(e);
+                value[e] = newWeight;
+                pull(e);
+                totalWeight += newWeight - oldWeight;
+            } else {
+                // A própria ligação concorre como substituta
+                cutEdge(e);
+                value[e] = newWeight;
+                best[e] = e;
+                findReplacement(endpointA[e], endpointB[e]);
+            }
+        } else {
+            value[e] = newWeight;
+            best[e] = e;
+            if (newWeight < oldWeight) {
+                insertEdge(e);
+            }
+        }
+    }
+
+    // --- Floresta ---------------------------------------------------------
+
+    // Cria o nó da ligação, fora da árvore; NIL se algum extremo não é conhecido
+    private int track(Connection connection) {
+        Integer a = vertexNodes.get(connection.getSource());
+        Integer b = vertexNodes.get(connection.getTarget());
+        if (a == null || b == null) return NIL;
+
+        int e = newNode(connection.getWeight());
+        connectionOf[e] = connection;
+        endpointA[e] = a;
+        endpointB[e] = b;
+        connectionNodes.put(connection, e);
+        if (a.intValue() != b.intValue()) {
+            slotA[e] = attach(a, e);
+            slotB[e] = attach(b, e);
+        }
+        return e;
+    }
+
+    private void insertEdge(int e) {
+        int a = endpointA[e];
+        int b = endpointB[e];
+
+        // Laço nunca entra na árvore
+        if (a == b) return;
+
+        if (!connected(a, b)) {
+            linkEdge(e);
+            return;
+        }
+
+        int heaviest = pathMax(a, b);
+        if (value[heaviest] > value[e]) {
+            cutEdge(heaviest);
+            linkEdge(e);
+        }
+    }
+
+    /**
+     * Após cortar uma ligação da árvore entre a e b, religa os dois lados pela ligação mais
+     * leve que os cruza. Percorre as duas árvores em largura, alternando um vértice de cada
+     * lado, e para quando um dos lados se esgota: toda ligação que cruza o corte tem um
+     * extremo nesse lado menor.
+     */
+    private void findReplacement(int a, int b) {
+        int stampA = ++stamp;
+        int stampB = ++stamp;
+        mark[a] = stampA;
+        mark[b] = stampB;
+        queueA[0] = a;
+        queueB[0] = b;
+        int headA = 0, tailA = 1;
+        int headB = 0, tailB = 1;
+
+        while (headA < tailA && headB < tailB) {
+            tailA = expand(queueA[headA++], queueA, tailA, stampA);
+            tailB = expand(queueB[headB++], queueB, tailB, stampB);
+        }
+
+        int[] side = headA == tailA ? queueA : queueB;
+        int sideSize = headA == tailA ? tailA : tailB;
+        int sideStamp = headA == tailA ? stampA : stampB;
+
+        int replacement = NIL;
+        for (int i = 0; i < sideSize; i++) {
+            int x = side[i];
+            for (int k = 0; k < incidentSize[x]; k++) {
+                int f = incident[x][k];
+                if (inTree[f]) continue;
+                int other = endpointA[f] == x ? endpointB[f] : endpointA[f];
+                if (mark[other] == sideStamp) continue;
+                if (replacement == NIL || value[f] < value[replacement]
+                        || (value[f] == value[replacement] && f < replacement)) {
+                    replacement = f;
+                }
+            }
+        }
+
+        if (replacement != NIL) {
+            linkEdge(replacement);
+        }
+    }
+
+    // Enfileira os vizinhos de x pela árvore ainda não marcados
+    private int expand(int x, int[] queue, int tail, int sideStamp) {
+        for (int k = 0; k < incidentSize[x]; k++) {
+            int f = incident[x][k];
+            if (!inTree[f]) continue;
+            int other = endpointA[f] == x ? endpointB[f] : endpointA[f];
+            if (mark[other] != sideStamp) {
+                mark[other] = sideStamp;
+                queue[tail++] = other;
+            }
+        }
+        return tail;
+    }
+
+    private void linkEdge(int e) {
+        link(e, endpointA[e]);
+        link(e, endpointB[e]);
+        inTree[e] = true;
+        treeEdges.add(connectionOf[e]);
+        totalWeight += value[e];
+    }
+
+    private void cutEdge(int e) {
+        cut(e, endpointA[e]);
+        cut(e, endpointB[e]);
+        inTree[e] = false;
+        treeEdges.remove(connectionOf[e]);
+        totalWeight -= value[e];
+    }
+
+    // --- Link-cut tree ----------------------------------------------------
+
+    private boolean isSplayRoot(int x) {
+        int p = parent[x];
+        return p == NIL || (left[p] != x && right[p] != x);
+    }
+
+    private void pull(int x) {
+        int b = x;
+        int l = left[x];
+        int r = right[x];
+        if (l != NIL && value[best[l]] > value[b]) b = best[l];
+        if (r != NIL && value[best[r]] > value[b]) b = best[r];
+        best[x] = b;
+    }
+
+    private void push(int x) {
+        if (!flipped[x]) return;
+        int l = left[x];
+        int r = right[x];
+        left[x] = r;
+        right[x] = l;
+        if (l != NIL) flipped[l] = !flipped[l];
+        if (r != NIL) flipped[r] = !flipped[r];
+        flipped[x] = false;
+    }
+
+    private void rotate(int x) {
+        int p = parent[x];
+        int g = parent[p];
+        boolean parentIsRoot = isSplayRoot(p);
+
+        if (left[p] == x) {
+            left[p] = right[x];
+            if (right[x] != NIL) parent[right[x]] = p;
+            right[x] = p;
+        } else {
+            right[p] = left[x];
+            if (left[x] != NIL) parent[left[x]] = p;
+            left[x] = p;
+        }
+        parent[p] = x;
+        parent[x] = g;
+        if (!parentIsRoot) {
+            if (left[g] == p) left[g] = x;
+            else right[g] = x;
+        }
+        pull(p);
+        pull(x);
+    }
+
+    private void splay(int x) {
+        // Propaga as inversões pendentes da raiz splay até x antes de girar
+        int top = 0;
+        splayStack[top++] = x;
+        for (int y = x; !isSplayRoot(y); y = parent[y]) {
+            splayStack[top++] = parent[y];
+        }
+        while (top > 0) {
+            push(splayStack[--top]);
+        }
+
+        while (!isSplayRoot(x)) {
+            int p = parent[x];
+            if (!isSplayRoot(p)) {
+                int g = parent[p];
+                boolean zigZig = (left[g] == p) == (left[p] == x);
+                rotate(zigZig ? p : x);
+            }
+            rotate(x);
+        }
+    }
+
+    private void access(int x) {
+        int last = NIL;
+        for (int y = x; y != NIL; y = parent[y]) {
+            splay(y);
+            right[y] = last;
+            pull(y);
+            last = y;
+        }
+        splay(x);
+    }
+
+    private void makeRoot(int x) {
+        access(x);
+        flipped[x] = !flipped[x];
+    }
+
+    private int findRoot(int x) {
+        access(x);
+        int root = x;
+        while (true) {
+            push(root);
+            if (left[root] == NIL) break;
+            root = left[root];
+        }
+        splay(root);
+        return root;
+    }
+
+    private boolean connected(int x, int y) {
+        return x == y || findRoot(x) == findRoot(y);
+    }
+
+    private void link(int x, int y) {
+        makeRoot(x);
+        parent[x] = y;
+    }
+
+    // x e y precisam ser adjacentes na floresta
+    private void cut(int x, int y) {
+        makeRoot(x);
+        access(y);
+        left[y] = NIL;
+        parent[x] = NIL;
+        pull(y);
+    }
+
+    // Nó de maior peso no caminho entre x e y (que precisam estar na mesma árvore)
+    private int pathMax(int x, int y) {
+        makeRoot(x);
+        access(y);
+        return best[y];
+    }
+
+    // --- Listas de incidência ---------------------------------------------
+
+    private int attach(int vertexNode, int e) {
+        int size = incidentSize[vertexNode];
+        if (size == incident[vertexNode].length) {
+            incident[vertexNode] = Arrays.copyOf(incident[vertexNode], Math.max(4, size * 2));
+        }
+        incident[vertexNode][size] = e;
+        incidentSize[vertexNode] = size + 1;
+        return size;
+    }
+
+    private void detach(int e) {
+        if (endpointA[e] == endpointB[e]) return;
+        removeIncident(endpointA[e], slotA[e]);
+        removeIncident(endpointB[e], slotB[e]);
+    }
+
+    // Remoção por troca com o último, atualizando a posição guardada da ligação movida
+    private void removeIncident(int vertexNode, int slot) {
+        int last = --incidentSize[vertexNode];
+        int moved = incident[vertexNode][last];
+        incident[vertexNode][slot] = moved;
+        if (endpointA[moved] == vertexNode) {
+            slotA[moved] = slot;
+        } else {
+            slotB[moved] = slot;
+        }
+    }
+
+    // --- Alocação de nós --------------------------------------------------
+
+    private void allocate(int capacity) {
+        left = new int[capacity];
+        right = new int[capacity];
+        parent = new int[capacity];
+        flipped = new boolean[capacity];
+        value = new double[capacity];
+        best = new int[capacity];
+        splayStack = new int[capacity];
+        connectionOf = new Connection[capacity];
+        endpointA = new int[capacity];
+        endpointB = new int[capacity];
+        slotA = new int[capacity];
+        slotB = new int[capacity];
+        inTree = new boolean[capacity];
+        incident = new int[capacity][];
+        incidentSize = new int[capacity];
+        mark = new int[capacity];
+        queueA = new int[capacity];
+        queueB = new int[capacity];
+    }
+
+    private void grow() {
+        int capacity = left.length * 2;
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        flipped = Arrays.copyOf(flipped, capacity);
+        value = Arrays.copyOf(value, capacity);
+        best = Arrays.copyOf(best, capacity);
+        splayStack = Arrays.copyOf(splayStack, capacity);
+        connectionOf = Arrays.copyOf(connectionOf, capacity);
+        endpointA = Arrays.copyOf(endpointA, capacity);
+        endpointB = Arrays.copyOf(endpointB, capacity);
+        slotA = Arrays.copyOf(slotA, capacity);
+        slotB = Arrays.copyOf(slotB, capacity);
+        inTree = Arrays.copyOf(inTree, capacity);
+        incident = Arrays.copyOf(incident, capacity);
+        incidentSize = Arrays.copyOf(incidentSize, capacity);
+        mark = Arrays.copyOf(mark, capacity);
+        queueA = Arrays.copyOf(queueA, capacity);
+        queueB = Arrays.copyOf(queueB, capacity);
+    }
+
+    private int newNode(double weight) {
+        int x;
+        if (freeCount > 0) {
+            x = freeNodes[--freeCount];
+        } else {
+            if (nodeCount == left.length) grow();
+            x = nodeCount++;
+        }
+        left[x] = NIL;
+        right[x] = NIL;
+        parent[x] = NIL;
+        flipped[x] = false;
+        value[x] = weight;
+        best[x] = x;
+        connectionOf[x] = null;
+        endpointA[x] = NIL;
+        endpointB[x] = NIL;
+        inTree[x] = false;
+        incidentSize[x] = 0;
+        if (incident[x] == null) incident[x] = new int[4];
+        mark[x] = 0;
+        return x;
+    }
+
+    // O nó precisa estar isolado (sem ligações na floresta)
+    private void freeNode(int x) {
+        connectionOf[x] = null;
+        if (freeCount == freeNodes.length) {
+            freeNodes = Arrays.copyOf(freeNodes, freeCount * 2);
+        }
+        freeNodes[freeCount++] = x;
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.algorithms;
 
 import org.example.graph.Connection;
+import org.example.graph.GraphSnapshot;
 import org.example.graph.Vertex;
 
 import java.util.*;
@@ -29,7 +30,9 @@ public class HopcroftTarjan {
 
     // --- Estruturas de Dados do Algoritmo ---
     private static int n;
-    private static List<List<Integer>> adj;
+    // Adjacência não-dirigida, sem laços nem repetições, em formato CSR
+    private static int[] adjOffsets;
+    private static int[] adjTargets;
     private static int[] ord;  // Ordem de descoberta (tempo)
     private static int[] low;  // Lowpoint 1
     private static int[] par;  // Pai na árvore DFS
@@ -37,6 +40,9 @@ public class HopcroftTarjan {
 
     // Lista de "intervalos" de ancestrais para cada nó
     private static List<List<Interval>> intervals;
+    // Listas de trabalho de cada nó aberto na DFS (liberadas ao terminar o nó)
+    private static List<List<Interval>> backEdgeLists;
+    private static List<List<Interval>> childBranchLists;
     private static boolean isNonPlanar;
 
     // Classe auxiliar para representar um intervalo [low, high]
@@ -52,28 +58,22 @@ public class HopcroftTarjan {
      * Método principal (Adaptador) - Converte o grafo e inicia o teste
      */
     public static PlanarityResult checkPlanarity(List<Vertex> vertices, List<Connection> connections) {
+        return checkPlanarity(GraphSnapshot.of(vertices, connections));
+    }
+
+    /**
+     * Teste de planaridade sobre a fotografia CSR do grafo.
+     */
+    public static PlanarityResult checkPlanarity(GraphSnapshot graph) {
 
-        n = vertices.size();
+        n = graph.getVertexCount();
         if (n <= 4) {
             return new PlanarityResult(true,
                     "Grafos com 4 ou menos vértices são sempre planares.");
         }
 
-        // 1. Indexação
-        Map<Vertex,Integer> id = new HashMap<>();
-        for(int i = 0; i < n; i++) id.put(vertices.get(i), i);
-
-        // 2. Construção da Lista de Adjacência (Não-Dirigida)
-        adj = new ArrayList<>();
-        for(int i = 0; i < n; i++) adj.add(new ArrayList<>());
-
-        for (Connection e : connections){
-            int a = id.get(e.getSource());
-            int b = id.get(e.getTarget());
-            if (a == b) continue;
-            if (!adj.get(a).contains(b)) adj.get(a).add(b);
-            if (!adj.get(b).contains(a)) adj.get(b).add(a);
-        }
+        // 1 e 2. Construção da Lista de Adjacência (Não-Dirigida)
+        buildUndirectedAdjacency(graph);
 
         // 3. Inicialização das estruturas do DFS
         ord = new int[n];
@@ -82,23 +82,53 @@ public class HopcroftTarjan {
         Arrays.fill(par, -1);
 
         intervals = new ArrayList<>();
-        for(int i = 0; i < n; i++) intervals.add(new ArrayList<>());
+        backEdgeLists = new ArrayList<>();
+        childBranchLists = new ArrayList<>();
+        for(int i = 0; i < n; i++) {
+            intervals.add(new ArrayList<>());
+            backEdgeLists.add(null);
+            childBranchLists.add(null);
+        }
 
         time = 0;
         isNonPlanar = false;
 
-        // 4. Execução do DFS
+        // 4. Execução do DFS (iterativa, sem limite de profundidade)
         // Este algoritmo precisa que o grafo seja biconexo
         // (A execução em grafos não-biconexos pode dar falsos positivos)
-        for (int i = 0; i < n; i++) {
-            if (ord[i] == 0) {
-                dfsPlanar(i);
-                if (isNonPlanar) break;
+        new IterativeDFS(adjOffsets, adjTargets).runAll(new IterativeDFS.Visitor() {
+            @Override
+            public void discover(int vertex, int parentArc) {
+                enterPlanar(vertex);
             }
-        }
+
+            @Override
+            public void edge(int from, int to, int arc, IterativeDFS.EdgeType type) {
+                if (type == IterativeDFS.EdgeType.TREE) {
+                    par[to] = from;
+                } else {
+                    backEdgePlanar(from, to);
+                }
+            }
+
+            @Override
+            public void finish(int vertex) {
+                finishPlanar(vertex);
+                if (!isNonPlanar && par[vertex] >= 0) {
+                    childDonePlanar(par[vertex], vertex);
+                }
+            }
+
+            @Override
+            public boolean isStopped() {
+                return isNonPlanar;
+            }
+        });
+        backEdgeLists = null;
+        childBranchLists = null;
 
         // 5. Retorno do Resultado
-        if (isNonPlanar || isK5(vertices,connections) || isK33()) {
+        if (isNonPlanar || isK5(graph) || isK33()) {
             return new PlanarityResult(false,
                     "O algoritmo detectou um conflito de intercalação (interlacing),\n" +
                             "indicando que o grafo contém uma subdivisão de K5 ou K3,3.");
@@ -108,82 +138,137 @@ public class HopcroftTarjan {
         }
     }
 
-// Em org.example.algorithms.HopcroftTarjan
+    /**
+     * Monta a adjacência não-dirigida (sem laços e sem vizinhos repetidos) a partir do CSR.
+     * Em grafos com arcos, as ligações de saída e de entrada são intercaladas pela ordem
+     * original das ligações, reproduzindo a ordem em que a lista de adjacência era montada.
+     */
+    private static void buildUndirectedAdjacency(GraphSnapshot graph) {
+        int[] mark = new int[n];
+        adjOffsets = new int[n + 1];
+
+        // Primeira passada conta os vizinhos distintos, a segunda preenche
+        for (int pass = 0; pass < 2; pass++) {
+            int stampBase = pass * n + 1;
+            for (int v = 0; v < n; v++) {
+                int stamp = stampBase + v;
+                int write = pass == 0 ? 0 : adjOffsets[v];
+
+                int o = graph.outBegin(v), oEnd = graph.outEnd(v);
+                int i = graph.isDirected() ? graph.inBegin(v) : 0;
+                int iEnd = graph.isDirected() ? graph.inEnd(v) : 0;
+
+                while (o < oEnd || i < iEnd) {
+                    int w;
+                    if (i >= iEnd || (o < oEnd && graph.outConnection(o) <= graph.inConnection(i))) {
+                        w = graph.outTarget(o++);
+                    } else {
+                        w = graph.inSource(i++);
+                    }
+                    if (w == v || mark[w] == stamp) continue;
+                    mark[w] = stamp;
+                    if (pass == 0) {
+                        write++;
+                    } else {
+                        adjTargets[write++] = w;
+                    }
+                }
+
+                if (pass == 0) {
+                    adjOffsets[v + 1] = adjOffsets[v] + write;
+                }
+            }
+            if (pass == 0) {
+                adjTargets = new int[adjOffsets[n]];
+            }
+        }
+    }
+
+    private static int degree(int v) {
+        return adjOffsets[v + 1] - adjOffsets[v];
+    }
 
     /**
      * O núcleo do DFS de planaridade.
      * ESTA É A VERSÃO CORRIGIDA.
+     *
+     * A recursão original foi dividida nos eventos da DFS iterativa: descoberta de 'v',
+     * arestas de retorno, volta de cada filho e término de 'v'.
      */
-    private static void dfsPlanar(int v) {
-        if (isNonPlanar) return;
-
+    private static void enterPlanar(int v) {
         ord[v] = low[v] = ++time;
 
         // Lista de intervalos que 'v' coleta de suas arestas de retorno
-        List<Interval> backEdgeIntervals = new ArrayList<>();
+        backEdgeLists.set(v, new ArrayList<>());
         // Lista de intervalos que 'v' coleta de seus filhos
-        List<Interval> childBranchIntervals = new ArrayList<>();
-
-        for (int w : adj.get(v)) {
-            if (w == par[v]) continue;
+        childBranchLists.set(v, new ArrayList<>());
+    }
 
-            if (ord[w] != 0) { // Aresta de Retorno (v -> w)
-                if (ord[w] < ord[v]) { // Apenas ancestrais
-                    low[v] = Math.min(low[v], ord[w]);
-                    // Adiciona a aresta de retorno como um intervalo [low, high]
-                    backEdgeIntervals.add(new Interval(ord[w], ord[v]));
-                }
-            } else { // Aresta de Árvore (v -> w)
-                par[w] = v;
-                dfsPlanar(w);
-                if (isNonPlanar) return;
+    // Aresta de Retorno (v -> w), com 'w' já visitado
+    private static void backEdgePlanar(int v, int w) {
+        if (w == par[v]) return;
 
-                low[v] = Math.min(low[v], low[w]);
+        if (ord[w] < ord[v]) { // Apenas ancestrais
+            low[v] = Math.min(low[v], ord[w]);
+            // Adiciona a aresta de retorno como um intervalo [low, high]
+            backEdgeLists.get(v).add(new Interval(ord[w], ord[v]));
+        }
+    }
 
-                // Pega os intervalos processados e limpos do filho 'w'
-                List<Interval> childIntervals = intervals.get(w);
+    // Aresta de Árvore (v -> w): a sub-árvore de 'w' acabou de ser processada
+    private static void childDonePlanar(int v, int w) {
+        List<Interval> childBranchIntervals = childBranchLists.get(v);
 
-                // Cria o intervalo para a própria aresta de árvore (v,w)
-                // O "bloco" desta aresta é definido por [low[w], ord[v]]
-                Interval edgeInterval = new Interval(low[w], ord[v]);
+        low[v] = Math.min(low[v], low[w]);
 
-                // --- VERIFICAÇÃO DE CONFLITO IMEDIATO ---
-                // O novo "bloco" da aresta (v,w) pode conflitar com...
+        // Pega os intervalos processados e limpos do filho 'w'
+        List<Interval> childIntervals = intervals.get(w);
 
-                // 1. ...os blocos da sub-árvore de 'w'?
-                for (Interval ivChild : childIntervals) {
-                    if (checkInterlace(ivChild, edgeInterval)) {
-                        isNonPlanar = true;
-                        return;
-                    }
-                }
+        // Cria o intervalo para a própria aresta de árvore (v,w)
+        // O "bloco" desta aresta é definido por [low[w], ord[v]]
+        Interval edgeInterval = new Interval(low[w], ord[v]);
 
-                // 2. ...os blocos de outros filhos de 'v' que já processamos?
-                for (Interval ivBranch : childBranchIntervals) {
-                    if (checkInterlace(ivBranch, edgeInterval)) {
-                        isNonPlanar = true;
-                        return;
-                    }
-                    // 3. ...e os blocos da sub-árvore de 'w' podem conflitar
-                    //    com os blocos de outros filhos de 'v'?
-                    for (Interval ivChild : childIntervals) {
-                        if (checkInterlace(ivBranch, ivChild)) {
-                            isNonPlanar = true;
-                            return;
-                        }
-                    }
-                }
+        // --- VERIFICAÇÃO DE CONFLITO IMEDIATO ---
+        // O novo "bloco" da aresta (v,w) pode conflitar com...
 
-                // --- FIM DA VERIFICAÇÃO ---
+        // 1. ...os blocos da sub-árvore de 'w'?
+        for (Interval ivChild : childIntervals) {
+            if (checkInterlace(ivChild, edgeInterval)) {
+                isNonPlanar = true;
+                return;
+            }
+        }
 
-                // Se não há conflito, adicionamos os intervalos de 'w' e da aresta (v,w)
-                // à lista de blocos de 'v' para verificações futuras.
-                childBranchIntervals.add(edgeInterval);
-                childBranchIntervals.addAll(childIntervals);
+        // 2. ...os blocos de outros filhos de 'v' que já processamos?
+        for (Interval ivBranch : childBranchIntervals) {
+            if (checkInterlace(ivBranch, edgeInterval)) {
+                isNonPlanar = true;
+                return;
+            }
+            // 3. ...e os blocos da sub-árvore de 'w' podem conflitar
+            //    com os blocos de outros filhos de 'v'?
+            for (Interval ivChild : childIntervals) {
+                if (checkInterlace(ivBranch, ivChild)) {
+                    isNonPlanar = true;
+                    return;
+                }
             }
         }
 
-        // --- PÓS-PROCESSAMENTO DE 'v' ---
+        // --- FIM DA VERIFICAÇÃO ---
+
+        // Se não há conflito, adicionamos os intervalos de 'w' e da aresta (v,w)
+        // à lista de blocos de 'v' para verificações futuras.
+        childBranchIntervals.add(edgeInterval);
+        childBranchIntervals.addAll(childIntervals);
+    }
+
+    // --- PÓS-PROCESSAMENTO DE 'v' ---
+    private static void finishPlanar(int v) {
+        List<Interval> backEdgeIntervals = backEdgeLists.get(v);
+        List<Interval> childBranchIntervals = childBranchLists.get(v);
+        backEdgeLists.set(v, null);
+        childBranchLists.set(v, null);
 
         // Agora, 'v' tem duas listas:
         // 1. childBranchIntervals: Todos os blocos vindos de sub-árvores
@@ -281,9 +366,10 @@ public class HopcroftTarjan {
             int u = q.poll();
 
             // Verifica se o grau está correto (deve ser 3 no K3,3)
-            if(adj.get(u).size() != 3) return false;
+            if(degree(u) != 3) return false;
 
-            for (int v : adj.get(u)) {
+            for (int k = adjOffsets[u]; k < adjOffsets[u + 1]; k++) {
+                int v = adjTargets[k];
                 if (colors[v] == 0) {
                     int newColor = (colors[u] == 1) ? 2 : 1;
                     colors[v] = newColor;
@@ -300,33 +386,15 @@ public class HopcroftTarjan {
         return counts.get(1) == 3 && counts.get(2) == 3;
     }
 
-    private static boolean isK5(List<Vertex> vertices, List<Connection> connections) {
-        int n = vertices.size();
-        int e = connections.size();
-        Map<Vertex, Integer> id = new HashMap<>();
-        Map<Integer, Vertex> vertexMap = new HashMap<>();
-        for(int i = 0; i < n; i++) {
-            id.put(vertices.get(i), i);
-            vertexMap.put(i, vertices.get(i));
-        }
-
-        adj = new ArrayList<>();
-        for(int i = 0; i < n; i++) adj.add(new ArrayList<>());
-
-        for (Connection c : connections){
-            int a = id.get(c.getSource());
-            int b = id.get(c.getTarget());
-            if (a == b) continue;
-            if (!adj.get(a).contains(b)) adj.get(a).add(b);
-            if (!adj.get(b).contains(a)) adj.get(b).add(a);
-        }
+    private static boolean isK5(GraphSnapshot graph) {
+        int e = graph.getConnectionCount();
 
         // --- Filtro 2: Verificação explícita de K5 ---
         // Se o grafo TEM 5 vértices, ele é o K5?
         if (n == 5 && e == 10) {
             // K5 tem 5 vértices e (5*4)/2 = 10 arestas.
             for(int i = 0; i < n; i++) {
-                if (adj.get(i).size() != 4) {
+                if (degree(i) != 4) {
                     return false;
                 }
             }
@@ -0,0 +1,120 @@
+package org.example.algorithms;
+
+import org.example.graph.Connection;
+import org.example.graph.Vertex;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conectividade (ignorando a orientação) mantida a cada edição do grafo.
+ *
+ * Inserções de vértices e ligações entram direto no union-find. Remoções apenas marcam
+ * a estrutura como desatualizada; ela é reconstruída em O(V + E) na próxima consulta, de
+ * modo que uma sequência de remoções custa uma única reconstrução. Com a estrutura em dia,
+ * as consultas custam O(α(n)).
+ */
+public class IncrementalConnectivity {
+    private final List<Vertex> vertexList;
+    private final List<Connection> connectionList;
+
+    private final Map<Vertex, Integer> ids = new HashMap<>();
+    private UnionFind unionFind = new UnionFind(0);
+    private boolean stale = false;
+
+    // Recebe as listas vivas do modelo, usadas apenas para reconstruir após remoções
+    public IncrementalConnectivity(List<Vertex> vertexList, List<Connection> connectionList) {
+        this.vertexList = vertexList;
+        this.connectionList = connectionList;
+        rebuild();
+    }
+
+    public void vertexAdded(Vertex vertex) {
+        if (!stale) {
+            ids.put(vertex, unionFind.makeSet());
+        }
+    }
+
+    public void connectionAdded(Connection connection) {
+        if (stale) return;
+
+        Integer source = ids.get(connection.getSource());
+        Integer target = ids.get(connection.getTarget());
+        if (source != null && target != null) {
+            unionFind.union(source, target);
+        } else {
+            stale = true;
+        }
+    }
+
+    public void vertexRemoved(Vertex vertex) {
+        stale = true;
+    }
+
+    public void connectionRemoved(Connection connection) {
+        stale = true;
+    }
+
+    public void clear() {
+        ids.clear();
+        unionFind = new UnionFind(0);
+        stale = false;
+    }
+
+    public boolean areConnected(Vertex v1, Vertex v2) {
+        refresh();
+        Integer a = ids.get(v1);
+        Integer b = ids.get(v2);
+        return a != null && b != null && unionFind.connected(a, b);
+    }
+
+    public int getComponentCount() {
+        refresh();
+        return unionFind.getComponentCount();
+    }
+
+    public boolean isConnected() {
+        return getComponentCount() <= 1;
+    }
+
+    /**
+     * Grava em componentMap o número da componente de cada vértice (a partir de 0, na
+     * ordem da lista de vértices) e devolve a quantidade de componentes.
+     */
+    public int labelComponents(Map<Vertex, Integer> componentMap) {
+        refresh();
+        int[] labels = new int[unionFind.size()];
+        int nextLabel = 0;
+        for (Vertex vertex : vertexList) {
+            int root = unionFind.find(ids.get(vertex));
+            if (labels[root] == 0) {
+                labels[root] = ++nextLabel;
+            }
+            componentMap.put(vertex, labels[root] - 1);
+        }
+        return nextLabel;
+    }
+
+    private void refresh() {
+        if (stale) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        ids.clear();
+        unionFind = new UnionFind(vertexList.size());
+        for (int i = 0; i < vertexList.size(); i++) {
+            ids.put(vertexList.get(i), i);
+        }
+        for (Connection connection : connectionList) {
+            Integer source = ids.get(connection.getSource());
+            Integer target = ids.get(connection.getTarget());
+            if (source != null && target != null) {
+                unionFind.union(source, target);
+            }
+        }
+        stale = false;
+    }
+}
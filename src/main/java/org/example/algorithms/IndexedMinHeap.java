@@ -0,0 +1,125 @@
+package org.example.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Heap binário mínimo indexado por ids inteiros de vértice (0 .. capacity-1), com
+ * decrease-key em O(log n). Cada id aparece no máximo uma vez, então não há entradas
+ * obsoletas e nenhuma alocação por operação.
+ */
+public class IndexedMinHeap implements IntPriorityQueue {
+    private final int[] heap;
+    private final int[] position;
+    private final double[] keys;
+    private int size = 0;
+
+    public IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        position = new int[capacity];
+        keys = new double[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    @Override
+    public int size() { return size; }
+
+    @Override
+    public boolean contains(int item) { return position[item] >= 0; }
+
+    @Override
+    public double getKey(int item) { return keys[item]; }
+
+    public int peek() { return heap[0]; }
+
+    public double peekKey() { return keys[heap[0]]; }
+
+    @Override
+    public void insert(int item, double key) {
+        keys[item] = key;
+        heap[size] = item;
+        position[item] = size;
+        siftUp(size++);
+    }
+
+    @Override
+    public void decreaseKey(int item, double key) {
+        keys[item] = key;
+        siftUp(position[item]);
+    }
+
+    /**
+     * Insere o item ou diminui a sua chave se a nova for menor.
+     *
+     * @return true se o heap foi alterado
+     */
+    @Override
+    public boolean insertOrDecrease(int item, double key) {
+        if (position[item] < 0) {
+            insert(item, key);
+            return true;
+        }
+        if (key < keys[item]) {
+            decreaseKey(item, key);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int poll() {
+        int top = heap[0];
+        position[top] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            position[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    // Esvazia o heap em O(size), sem percorrer toda a capacidade
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int i) {
+        int item = heap[i];
+        double key = keys[item];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            int parentItem = heap[parent];
+            if (keys[parentItem] <= key) break;
+            heap[i] = parentItem;
+            position[parentItem] = i;
+            i = parent;
+        }
+        heap[i] = item;
+        position[item] = i;
+    }
+
+    private void siftDown(int i) {
+        int item = heap[i];
+        double key = keys[item];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && keys[heap[right]] < keys[heap[child]]) child = right;
+            int childItem = heap[child];
+            if (key <= keys[childItem]) break;
+            heap[i] = childItem;
+            position[childItem] = i;
+            i = child;
+        }
+        heap[i] = item;
+        position[item] = i;
+    }
+}
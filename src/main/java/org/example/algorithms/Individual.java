@@ -37,9 +37,9 @@ public class Individual implements Comparable<Individual> {
         this.fitness = cost;
     }
 
-    // Função auxiliar para achar conexão na lista
+    // Função auxiliar para achar conexão entre v1 e v2 (percorre apenas as ligações incidentes em v1)
     private Connection findConnection(Vertex v1, Vertex v2, List<Connection> connections) {
-        for (Connection c : connections) {
+        for (Connection c : v1.getIncidentConnections()) {
             // Verifica conexão nos dois sentidos (assumindo grafo não direcionado ou tratando a direção na Connection)
             if (c.connects(v1, v2)) {
                 return c;
@@ -0,0 +1,43 @@
+package org.example.algorithms;
+
+/**
+ * Fila de prioridade mínima indexada por ids inteiros (0 .. capacity-1), com
+ * decrease-key. Cada id aparece no máximo uma vez.
+ */
+public interface IntPriorityQueue {
+
+    boolean isEmpty();
+
+    int size();
+
+    boolean contains(int item);
+
+    double getKey(int item);
+
+    void insert(int item, double key);
+
+    // A nova chave não pode ser maior que a atual
+    void decreaseKey(int item, double key);
+
+    // Remove e devolve o item de menor chave
+    int poll();
+
+    void clear();
+
+    /**
+     * Insere o item ou diminui a sua chave se a nova for menor.
+     *
+     * @return true se a fila foi alterada
+     */
+    default boolean insertOrDecrease(int item, double key) {
+        if (!contains(item)) {
+            insert(item, key);
+            return true;
+        }
+        if (key < getKey(item)) {
+            decreaseKey(item, key);
+            return true;
+        }
+        return false;
+    }
+}
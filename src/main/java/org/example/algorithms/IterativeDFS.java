@@ -0,0 +1,249 @@
+package org.example.algorithms;
+
+import org.example.graph.GraphSnapshot;
+
+import java.util.Arrays;
+
+/**
+ * Motor de busca em profundidade sem recursão, sobre adjacência indexada (CSR). A pilha
+ * guarda quadros (vértice, cursor do próximo arco), então cada arco é examinado uma única
+ * vez e a profundidade não depende da pilha da JVM: O(V + E) para qualquer grafo.
+ *
+ * Registra tempos de descoberta e término (um único relógio, como na versão recursiva),
+ * o arco pai de cada vértice e classifica cada arco como de árvore, retorno, avanço ou
+ * cruzamento. Quem usa o motor acompanha a busca por um Visitor.
+ *
+ * Vértices já visitados continuam marcados entre chamadas de run, de modo que várias
+ * raízes formam uma floresta DFS com tempos crescentes; reset() recomeça do zero.
+ */
+public final class IterativeDFS {
+
+    public enum EdgeType {
+        TREE,    // leva a um vértice ainda não descoberto
+        BACK,    // leva a um ancestral ainda aberto (inclui laços)
+        FORWARD, // leva a um descendente já terminado
+        CROSS    // leva a um vértice já terminado fora da subárvore
+    }
+
+    /** Acompanha a busca; todos os métodos são opcionais. */
+    public interface Visitor {
+        // parentArc é -1 na raiz
+        default void discover(int vertex, int parentArc) {
+        }
+
+        default void finish(int vertex) {
+        }
+
+        // Chamado para todo arco examinado; num arco de árvore, antes de descobrir o destino
+        default void edge(int from, int to, int arc, EdgeType type) {
+        }
+
+        // Interrompe a busca assim que retornar true
+        default boolean isStopped() {
+            return false;
+        }
+    }
+
+    private static final Visitor NO_VISITOR = new Visitor() {
+    };
+
+    // Adjacência: arcos de saída/entrada do snapshot, ou vetores CSR próprios
+    private final GraphSnapshot graph;
+    private final boolean reverse;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int n;
+
+    private final int[] discovery;
+    private final int[] finish;
+    private final int[] parentArc;
+    private final int[] parent;
+    private final int[] order;
+
+    // Pilha de quadros (vértice, cursor)
+    private final int[] stackVertex;
+    private final int[] stackCursor;
+
+    private int time;
+    private int visitedCount;
+
+    private IterativeDFS(GraphSnapshot graph, boolean reverse, int[] offsets, int[] targets, int n) {
+        this.graph = graph;
+        this.reverse = reverse;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.n = n;
+        this.discovery = new int[n];
+        this.finish = new int[n];
+        this.parentArc = new int[n];
+        this.parent = new int[n];
+        this.order = new int[n];
+        this.stackVertex = new int[n];
+        this.stackCursor = new int[n];
+        reset();
+    }
+
+    /** Busca sobre vetores CSR: os vizinhos de v são targets[offsets[v], offsets[v + 1]). */
+    public IterativeDFS(int[] offsets, int[] targets) {
+        this(null, false, offsets, targets, offsets.length - 1);
+    }
+
+    /** Segue os arcos de saída do snapshot; os ids de arco são os do snapshot. */
+    public static IterativeDFS outgoing(GraphSnapshot graph) {
+        return new IterativeDFS(graph, false, null, null, graph.getVertexCount());
+    }
+
+    /** Segue os arcos de entrada do snapshot (grafo transposto). */
+    public static IterativeDFS incoming(GraphSnapshot graph) {
+        return new IterativeDFS(graph, true, null, null, graph.getVertexCount());
+    }
+
+    public void reset() {
+        Arrays.fill(discovery, -1);
+        Arrays.fill(finish, -1);
+        Arrays.fill(parentArc, -1);
+        Arrays.fill(parent, -1);
+        time = 0;
+        visitedCount = 0;
+    }
+
+    private int begin(int v) {
+        if (graph == null) return offsets[v];
+        return reverse ? graph.inBegin(v) : graph.outBegin(v);
+    }
+
+    private int end(int v) {
+        if (graph == null) return offsets[v + 1];
+        return reverse ? graph.inEnd(v) : graph.outEnd(v);
+    }
+
+    private int target(int arc) {
+        if (graph == null) return targets[arc];
+        return reverse ? graph.inSource(arc) : graph.outTarget(arc);
+    }
+
+    public boolean run(int root) {
+        return run(root, NO_VISITOR);
+    }
+
+    /**
+     * Busca a partir de root, se ainda não visitado.
+     *
+     * @return false se o visitor interrompeu a busca
+     */
+    public boolean run(int root, Visitor visitor) {
+        if (discovery[root] >= 0) {
+            return true;
+        }
+
+        int top = 0;
+        open(root, -1, -1, visitor);
+        stackVertex[top] = root;
+        stackCursor[top++] = begin(root);
+        if (visitor.isStopped()) return false;
+
+        while (top > 0) {
+            int u = stackVertex[top - 1];
+            int arc = stackCursor[top - 1];
+
+            if (arc < end(u)) {
+                stackCursor[top - 1] = arc + 1;
+                int w = target(arc);
+
+                if (discovery[w] < 0) {
+                    visitor.edge(u, w, arc, EdgeType.TREE);
+                    open(w, u, arc, visitor);
+                    stackVertex[top] = w;
+                    stackCursor[top++] = begin(w);
+                } else if (finish[w] < 0) {
+                    visitor.edge(u, w, arc, EdgeType.BACK);
+                } else if (discovery[w] > discovery[u]) {
+                    visitor.edge(u, w, arc, EdgeType.FORWARD);
+                } else {
+                    visitor.edge(u, w, arc, EdgeType.CROSS);
+                }
+            } else {
+                finish[u] = time++;
+                top--;
+                visitor.finish(u);
+            }
+
+            if (visitor.isStopped()) return false;
+        }
+
+        return true;
+    }
+
+    private void open(int v, int from, int arc, Visitor visitor) {
+        discovery[v] = time++;
+        parent[v] = from;
+        parentArc[v] = arc;
+        order[visitedCount++] = v;
+        visitor.discover(v, arc);
+    }
+
+    /** Floresta DFS com raízes em ordem de id. */
+    public boolean runAll(Visitor visitor) {
+        for (int root = 0; root < n; root++) {
+            if (!run(root, visitor)) return false;
+        }
+        return true;
+    }
+
+    /** Floresta DFS com raízes na ordem dada (vértices já visitados são pulados). */
+    public boolean runAll(int[] roots, Visitor visitor) {
+        for (int root : roots) {
+            if (!run(root, visitor)) return false;
+        }
+        return true;
+    }
+
+    // --- Consultas ---
+
+    public int getVertexCount() {
+        return n;
+    }
+
+    public boolean isVisited(int v) {
+        return discovery[v] >= 0;
+    }
+
+    public int getDiscoveryTime(int v) {
+        return discovery[v];
+    }
+
+    // -1 enquanto o vértice está aberto ou não foi visitado
+    public int getFinishTime(int v) {
+        return finish[v];
+    }
+
+    public int getParent(int v) {
+        return parent[v];
+    }
+
+    public int getParentArc(int v) {
+        return parentArc[v];
+    }
+
+    public int getVisitedCount() {
+        return visitedCount;
+    }
+
+    // i-ésimo vértice descoberto
+    public int getVertexAt(int i) {
+        return order[i];
+    }
+
+    // Vetores internos, para montar resultados sem cópia
+    int[] discoveryTimes() {
+        return discovery;
+    }
+
+    int[] finishTimes() {
+        return finish;
+    }
+
+    int[] discoveryOrder() {
+        return order;
+    }
+}
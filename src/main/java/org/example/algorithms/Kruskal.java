@@ -0,0 +1,89 @@
+package org.example.algorithms;
+
+import org.example.graph.Connection;
+import org.example.graph.GraphSnapshot;
+import org.example.graph.Vertex;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Algoritmo de Kruskal sobre GraphSnapshot. As ligações são ordenadas por peso com
+ * ordenação primitiva paralela e unidas por union-find. Em grafos desconexos o resultado
+ * é uma floresta geradora mínima (uma árvore por componente). A orientação das ligações
+ * é ignorada, como em Prim.
+ */
+public class Kruskal {
+
+    public static Prim.PrimResult findMinimumSpanningForest(List<Vertex> vertexList, List<Connection> connectionList) {
+        if (vertexList == null || connectionList == null) {
+            return null;
+        }
+        return findMinimumSpanningForest(GraphSnapshot.of(vertexList, connectionList));
+    }
+
+    public static Prim.PrimResult findMinimumSpanningForest(GraphSnapshot graph) {
+        if (graph == null || graph.getVertexCount() == 0) {
+            return null;
+        }
+
+        int n = graph.getVertexCount();
+        long[] order = sortedEdgeKeys(graph);
+        UnionFind unionFind = new UnionFind(n);
+        int[] forest = new int[Math.max(n - 1, 0)];
+        int forestSize = 0;
+
+        for (long key : order) {
+            int c = (int) key;
+            if (unionFind.union(graph.getConnectionSource(c), graph.getConnectionTarget(c))) {
+                forest[forestSize++] = c;
+                if (forestSize == n - 1) break;
+            }
+        }
+
+        return Prim.PrimResult.fromForest(graph, unionFind, forest, forestSize);
+    }
+
+    /**
+     * Chaves (posto do peso << 32 | id da ligação) de todas as ligações, em ordem crescente.
+     * O posto é a posição do peso no vetor de pesos ordenado, de modo que a chave respeita a
+     * ordem dos pesos e desempata pelo id, formando uma ordem total.
+     */
+    static long[] sortedEdgeKeys(GraphSnapshot graph) {
+        long[] keys = edgeKeys(graph);
+        Arrays.parallelSort(keys);
+        return keys;
+    }
+
+    /** Mesmas chaves de sortedEdgeKeys, indexadas pelo id da ligação (sem ordenar). */
+    static long[] edgeKeys(GraphSnapshot graph) {
+        int m = graph.getConnectionCount();
+        double[] sortedWeights = new double[m];
+        for (int c = 0; c < m; c++) {
+            sortedWeights[c] = graph.getConnectionWeight(c);
+        }
+        Arrays.parallelSort(sortedWeights);
+
+        long[] keys = new long[m];
+        IntStream.range(0, m).parallel().forEach(c -> {
+            long rank = lowerBound(sortedWeights, graph.getConnectionWeight(c));
+            keys[c] = (rank << 32) | c;
+        });
+        return keys;
+    }
+
+    private static int lowerBound(double[] sorted, double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Double.compare(sorted[mid], value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,374 @@
+package org.example.algorithms;
+
+import org.example.graph.GraphSnapshot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Pré-processamento ALT (A*, marcos e desigualdade triangular). Para cada marco L
+ * guardam-se as distâncias d(L, v) e d(v, L) de todos os vértices, e pela desigualdade
+ * triangular
+ * <pre>
+ *   d(v, t) >= d(L, t) - d(L, v)      e      d(v, t) >= d(v, L) - d(t, L)
+ * </pre>
+ * o maior desses limites entre os marcos é uma heurística admissível e consistente para
+ * o A* (e para o A* bidirecional). Em grafos só com arestas as duas distâncias coincidem
+ * e apenas uma tabela é guardada.
+ *
+ * As distâncias ficam em float para caber na memória; cada limite é reduzido em um ulp
+ * para continuar admissível apesar do arredondamento.
+ *
+ * O resultado pode ser salvo num arquivo .alt ao lado do .graph e recarregado enquanto o
+ * grafo não mudar (o arquivo traz uma impressão digital das ligações e pesos).
+ */
+public class Landmarks implements AStar.Heuristic {
+
+    public enum Selection {
+        // Cada marco é o vértice mais distante dos marcos já escolhidos
+        FARTHEST,
+        // Goldberg e Werneck: desce na árvore de caminhos mínimos de uma raiz pela
+        // subárvore com pior cobertura pelos marcos atuais, até uma folha
+        AVOID
+    }
+
+    public static final int DEFAULT_COUNT = 16;
+
+    private static final int FILE_MAGIC = 0x414C5431; // "ALT1"
+
+    private final int vertexCount;
+    private final long fingerprint;
+    private final int[] landmarks;
+    // from[i][v] = d(marco i, v); to[i][v] = d(v, marco i) (mesmo vetor quando simétrico)
+    private final float[][] from;
+    private final float[][] to;
+
+    private Landmarks(int vertexCount, long fingerprint, int[] landmarks, float[][] from, float[][] to) {
+        this.vertexCount = vertexCount;
+        this.fingerprint = fingerprint;
+        this.landmarks = landmarks;
+        this.from = from;
+        this.to = to;
+    }
+
+    public static Landmarks compute(GraphSnapshot graph, int count, Selection selection) {
+        return compute(graph, count, selection, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Escolhe até count marcos e calcula as suas distâncias. A escolha é sequencial, pois
+     * cada marco depende dos anteriores, e já produz as distâncias a partir deles; as
+     * distâncias até os marcos (grafos com arcos) são calculadas em paralelo no pool.
+     */
+    public static Landmarks compute(GraphSnapshot graph, int count, Selection selection, ForkJoinPool pool) {
+        int n = graph.getVertexCount();
+        count = Math.min(count, n);
+        int[] landmarks = new int[count];
+        float[][] from = new float[count][];
+
+        Dijkstra dijkstra = new Dijkstra(graph);
+        Random random = new Random(n * 31L + graph.getConnectionCount());
+
+        if (selection == Selection.FARTHEST) {
+            selectFarthest(graph, dijkstra, random, landmarks, from);
+        } else {
+            selectAvoid(graph, dijkstra, random, landmarks, from);
+        }
+
+        float[][] to = graph.isDirected() ? distancesTo(graph, landmarks, pool) : from;
+        return new Landmarks(n, graph.fingerprint(), landmarks, from, to);
+    }
+
+    /** Marcos dados pelo chamador; distâncias de e até cada marco em paralelo. */
+    public static Landmarks compute(GraphSnapshot graph, int[] landmarkIds, ForkJoinPool pool) {
+        int[] landmarks = landmarkIds.clone();
+        float[][] from = pool.submit(() -> IntStream.range(0, landmarks.length).parallel()
+                .mapToObj(i -> toFloat(new Dijkstra(graph).run(landmarks[i]).getDistances()))
+                .toArray(float[][]::new)).join();
+        float[][] to = graph.isDirected() ? distancesTo(graph, landmarks, pool) : from;
+        return new Landmarks(graph.getVertexCount(), graph.fingerprint(), landmarks, from, to);
+    }
+
+    private static float[][] distancesTo(GraphSnapshot graph, int[] landmarks, ForkJoinPool pool) {
+        return pool.submit(() -> IntStream.range(0, landmarks.length).parallel()
+                .mapToObj(i -> toFloat(new Dijkstra(graph, Dijkstra.HeapType.BINARY, true)
+                        .run(landmarks[i]).getDistances()))
+                .toArray(float[][]::new)).join();
+    }
+
+    private static void selectFarthest(GraphSnapshot graph, Dijkstra dijkstra, Random random,
+                                       int[] landmarks, float[][] from) {
+        int n = graph.getVertexCount();
+        // Menor distância de cada vértice aos marcos escolhidos (infinito = nenhum o alcança)
+        double[] nearest = new double[n];
+
+        // O primeiro marco é o mais distante de um vértice sorteado
+        double[] start = dijkstra.run(random.nextInt(n)).getDistances();
+        int next = farthest(start, null);
+
+        Arrays.fill(nearest, Double.POSITIVE_INFINITY);
+        boolean[] chosen = new boolean[n];
+        for (int i = 0; i < landmarks.length; i++) {
+            landmarks[i] = next;
+            chosen[next] = true;
+            double[] distance = dijkstra.run(next).getDistances();
+            from[i] = toFloat(distance);
+            for (int v = 0; v < n; v++) {
+                nearest[v] = Math.min(nearest[v], distance[v]);
+            }
+            next = farthest(nearest, chosen);
+        }
+    }
+
+    // Vértice de maior distância; vértices não alcançados (infinito) vêm primeiro
+    private static int farthest(double[] distance, boolean[] excluded) {
+        int best = -1;
+        for (int v = 0; v < distance.length; v++) {
+            if (excluded != null && excluded[v]) continue;
+            if (best < 0 || distance[v] > distance[best]) best = v;
+        }
+        return best;
+    }
+
+    private static void selectAvoid(GraphSnapshot graph, Dijkstra dijkstra, Random random,
+                                    int[] landmarks, float[][] from) {
+        int n = graph.getVertexCount();
+        boolean[] chosen = new boolean[n];
+        int[] childOffsets = new int[n + 1];
+        int[] children = new int[n];
+        int[] order = new int[n];
+        double[] size = new double[n];
+
+        for (int i = 0; i < landmarks.length; i++) {
+            int root = random.nextInt(n);
+            Dijkstra.ShortestPathTree tree = dijkstra.run(root);
+            double[] distance = tree.getDistances();
+
+            // Filhos de cada vértice na árvore, em CSR
+            Arrays.fill(childOffsets, 0);
+            int reached = 0;
+            for (int v = 0; v < n; v++) {
+                if (distance[v] == Double.POSITIVE_INFINITY) continue;
+                order[reached++] = v;
+                int parent = treeParent(graph, tree, v);
+                if (parent >= 0) childOffsets[parent + 1]++;
+            }
+            for (int v = 0; v < n; v++) {
+                childOffsets[v + 1] += childOffsets[v];
+            }
+            int[] fill = Arrays.copyOf(childOffsets, n);
+            for (int j = 0; j < reached; j++) {
+                int v = order[j];
+                int parent = treeParent(graph, tree, v);
+                if (parent >= 0) children[fill[parent]++] = v;
+            }
+
+            // Ordem de BFS na árvore a partir da raiz: percorrida de trás para a frente, cada
+            // filho é visto antes do pai (mesmo com arestas de peso zero)
+            order[0] = root;
+            for (int head = 0, tail = 1; head < tail; head++) {
+                int v = order[head];
+                for (int c = childOffsets[v]; c < childOffsets[v + 1]; c++) {
+                    order[tail++] = children[c];
+                }
+            }
+
+            // Peso de v = quanto o limite atual subestima d(raiz, v); a subárvore que já
+            // contém um marco fica com tamanho 0
+            boolean[] covered = new boolean[n];
+            for (int j = reached - 1; j >= 0; j--) {
+                int v = order[j];
+                double total = distance[v] - forwardBound(from, i, root, v);
+                boolean hasLandmark = chosen[v];
+                for (int c = childOffsets[v]; c < childOffsets[v + 1]; c++) {
+                    int child = children[c];
+                    total += size[child];
+                    hasLandmark |= covered[child];
+                }
+                covered[v] = hasLandmark;
+                size[v] = hasLandmark ? 0.0 : total;
+            }
+
+            // Desce pelo filho de maior tamanho até não haver filho aproveitável
+            int leaf = root;
+            while (true) {
+                int best = -1;
+                for (int c = childOffsets[leaf]; c < childOffsets[leaf + 1]; c++) {
+                    int child = children[c];
+                    if (size[child] > 0 && (best < 0 || size[child] > size[best])) best = child;
+                }
+                if (best < 0) break;
+                leaf = best;
+            }
+
+            // Raiz sem subárvore aproveitável: cai para um vértice ainda não escolhido
+            if (chosen[leaf]) {
+                leaf = 0;
+                while (chosen[leaf]) leaf++;
+            }
+
+            landmarks[i] = leaf;
+            chosen[leaf] = true;
+            from[i] = toFloat(dijkstra.run(leaf).getDistances());
+        }
+    }
+
+    // Limite d(u, v) >= d(L, v) - d(L, u) pelos count primeiros marcos (só distâncias a partir deles)
+    private static double forwardBound(float[][] from, int count, int u, int v) {
+        double best = 0.0;
+        for (int i = 0; i < count; i++) {
+            float fromU = from[i][u], fromV = from[i][v];
+            if (fromU != Float.POSITIVE_INFINITY && fromV != Float.POSITIVE_INFINITY) {
+                best = Math.max(best, bound(fromV, fromU));
+            }
+        }
+        return best;
+    }
+
+    private static int treeParent(GraphSnapshot graph, Dijkstra.ShortestPathTree tree, int v) {
+        int connection = tree.getParentConnection(v);
+        return connection >= 0 ? TraversalViews.otherEndpoint(graph, connection, v) : -1;
+    }
+
+    private static float[] toFloat(double[] distance) {
+        float[] values = new float[distance.length];
+        for (int v = 0; v < distance.length; v++) {
+            values[v] = (float) distance[v];
+        }
+        return values;
+    }
+
+    // --- Heurística ---
+
+    /**
+     * Limite inferior de d(vertex, target) pelo melhor marco. Devolve infinito quando um
+     * marco prova que o destino é inalcançável (o marco alcança vertex mas não target, ou
+     * target alcança o marco e vertex não); assim a heurística continua consistente entre
+     * os vértices que chegam ao destino.
+     */
+    @Override
+    public double estimate(int vertex, int target) {
+        double best = 0.0;
+        for (int i = 0; i < landmarks.length; i++) {
+            float[] f = from[i];
+            float[] t = to[i];
+            float fromVertex = f[vertex], fromTarget = f[target];
+            float toVertex = t[vertex], toTarget = t[target];
+
+            if (fromTarget == Float.POSITIVE_INFINITY) {
+                if (fromVertex != Float.POSITIVE_INFINITY) return Double.POSITIVE_INFINITY;
+            } else if (fromVertex != Float.POSITIVE_INFINITY) {
+                best = Math.max(best, bound(fromTarget, fromVertex));
+            }
+
+            if (toVertex == Float.POSITIVE_INFINITY) {
+                if (toTarget != Float.POSITIVE_INFINITY) return Double.POSITIVE_INFINITY;
+            } else if (toTarget != Float.POSITIVE_INFINITY) {
+                best = Math.max(best, bound(toVertex, toTarget));
+            }
+        }
+        return best;
+    }
+
+    // a - b, descontando o arredondamento para float
+    private static double bound(float a, float b) {
+        return (double) a - b - Math.ulp(Math.max(a, b));
+    }
+
+    public int getLandmarkCount() {
+        return landmarks.length;
+    }
+
+    public int getLandmark(int index) {
+        return landmarks[index];
+    }
+
+    /** true se as distâncias foram calculadas para este mesmo grafo (vértices, ligações e pesos). */
+    public boolean matches(GraphSnapshot graph) {
+        return graph.getVertexCount() == vertexCount && graph.fingerprint() == fingerprint;
+    }
+
+    // --- Arquivo .alt ---
+
+    /** Arquivo .alt correspondente a um arquivo .graph (mesmo nome, outra extensão). */
+    public static File sidecarOf(File graphFile) {
+        String path = graphFile.getPath();
+        if (path.endsWith(".graph")) {
+            path = path.substring(0, path.length() - ".graph".length());
+        }
+        return new File(path + ".alt");
+    }
+
+    public void save(File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(FILE_MAGIC);
+            out.writeInt(vertexCount);
+            out.writeLong(fingerprint);
+            out.writeInt(landmarks.length);
+            out.writeBoolean(to != from);
+            for (int landmark : landmarks) {
+                out.writeInt(landmark);
+            }
+            writeTable(out, from);
+            if (to != from) {
+                writeTable(out, to);
+            }
+        }
+    }
+
+    /**
+     * Lê um arquivo .alt salvo para o grafo dado.
+     *
+     * @throws IOException se o arquivo é inválido ou foi gerado para outro grafo
+     */
+    public static Landmarks load(File file, GraphSnapshot graph) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != FILE_MAGIC) {
+                throw new IOException("Arquivo ALT inválido: " + file.getName());
+            }
+            int n = in.readInt();
+            long fingerprint = in.readLong();
+            if (n != graph.getVertexCount() || fingerprint != graph.fingerprint()) {
+                throw new IOException("O arquivo ALT não corresponde ao grafo atual: " + file.getName());
+            }
+
+            int count = in.readInt();
+            boolean separateTo = in.readBoolean();
+            int[] landmarks = new int[count];
+            for (int i = 0; i < count; i++) {
+                landmarks[i] = in.readInt();
+            }
+            float[][] from = readTable(in, count, n);
+            float[][] to = separateTo ? readTable(in, count, n) : from;
+            return new Landmarks(n, fingerprint, landmarks, from, to);
+        }
+    }
+
+    private static void writeTable(DataOutputStream out, float[][] table) throws IOException {
+        for (float[] row : table) {
+            for (float value : row) {
+                out.writeFloat(value);
+            }
+        }
+    }
+
+    private static float[][] readTable(DataInputStream in, int count, int n) throws IOException {
+        float[][] table = new float[count][n];
+        for (float[] row : table) {
+            for (int v = 0; v < n; v++) {
+                row[v] = in.readFloat();
+            }
+        }
+        return table;
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.algorithms;
+
+import org.example.graph.GraphSnapshot;
+import org.example.graph.Vertex;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Busca em largura a partir de várias origens ao mesmo tempo (MS-BFS). Até 64 origens são
+ * processadas juntas: cada vértice guarda uma máscara de 64 bits com as buscas que já o
+ * visitaram e outra com as que o têm na fronteira, e cada arco é percorrido uma única vez
+ * por nível para todas as buscas do lote. Mais de 64 origens são divididas em lotes.
+ *
+ * As distâncias são em número de arcos, seguindo os arcos de saída.
+ */
+public class MultiSourceBFS {
+    public static final int BATCH_SIZE = 64;
+
+    /** Recebe cada distância assim que ela é descoberta, nível a nível. */
+    public interface DistanceConsumer {
+        void accept(int sourceIndex, int vertex, int distance);
+    }
+
+    /**
+     * Matriz de distâncias: distances[i][v] é a distância da origem sources[i] até o vértice
+     * de id v, ou -1 se v não é alcançável.
+     */
+    public static int[][] distances(GraphSnapshot graph, int[] sources) {
+        int n = graph.getVertexCount();
+        int[][] distances = new int[sources.length][n];
+        for (int[] row : distances) {
+            Arrays.fill(row, -1);
+        }
+        forEachDistance(graph, sources, (source, vertex, distance) -> distances[source][vertex] = distance);
+        return distances;
+    }
+
+    public static int[][] distances(GraphSnapshot graph, List<Vertex> sources) {
+        int[] ids = new int[sources.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = graph.indexOf(sources.get(i));
+            if (ids[i] < 0) {
+                throw new IllegalArgumentException("Vértice fora do grafo: " + sources.get(i).getId());
+            }
+        }
+        return distances(graph, ids);
+    }
+
+    /**
+     * Versão em fluxo: nada além das máscaras (16 bytes por vértice) é alocado, e o
+     * consumidor decide o que guardar.
+     */
+    public static void forEachDistance(GraphSnapshot graph, int[] sources, DistanceConsumer consumer) {
+        int n = graph.getVertexCount();
+        long[] seen = new long[n];
+        long[] frontier = new long[n];
+        long[] next = new long[n];
+
+        for (int from = 0; from < sources.length; from += BATCH_SIZE) {
+            int count = Math.min(BATCH_SIZE, sources.length - from);
+            Arrays.fill(seen, 0L);
+            Arrays.fill(frontier, 0L);
+            runBatch(graph, sources, from, count, seen, frontier, next, consumer);
+        }
+    }
+
+    private static void runBatch(GraphSnapshot graph, int[] sources, int from, int count,
+                                 long[] seen, long[] frontier, long[] next, DistanceConsumer consumer) {
+        int n = graph.getVertexCount();
+
+        for (int i = 0; i < count; i++) {
+            int s = sources[from + i];
+            long bit = 1L << i;
+            seen[s] |= bit;
+            frontier[s] |= bit;
+            consumer.accept(from + i, s, 0);
+        }
+
+        boolean active = true;
+        for (int level = 1; active; level++) {
+            Arrays.fill(next, 0L);
+            for (int v = 0; v < n; v++) {
+                long bits = frontier[v];
+                if (bits == 0) continue;
+                for (int arc = graph.outBegin(v), end = graph.outEnd(v); arc < end; arc++) {
+                    next[graph.outTarget(arc)] |= bits;
+                }
+            }
+
+            active = false;
+            for (int v = 0; v < n; v++) {
+                long discovered = next[v] & ~seen[v];
+                frontier[v] = discovered;
+                if (discovered == 0) continue;
+
+                active = true;
+                seen[v] |= discovered;
+                while (discovered != 0) {
+                    int i = Long.numberOfTrailingZeros(discovered);
+                    discovered &= discovered - 1;
+                    consumer.accept(from + i, v, level);
+                }
+            }
+        }
+    }
+}
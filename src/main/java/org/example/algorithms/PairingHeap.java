@@ -0,0 +1,138 @@
+package org.example.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Heap de emparelhamento (pairing heap) indexado por ids inteiros. Inserção e
+ * decrease-key são O(1) (o nó é cortado e fundido à raiz); a remoção do mínimo funde os
+ * filhos da raiz em duas passadas, O(log n) amortizado. Pode compensar em grafos
+ * densos, com muito mais decrease-key do que remoções.
+ *
+ * A árvore fica em vetores: primeiro filho, próximo irmão e "anterior" (o pai, para o
+ * primeiro filho, ou o irmão à esquerda).
+ */
+public class PairingHeap implements IntPriorityQueue {
+    private final double[] keys;
+    private final int[] child;
+    private final int[] sibling;
+    private final int[] previous;
+    // Pertence ao heap quando member[item] == epoch; clear() só avança a época
+    private final int[] member;
+    private final int[] scratch;
+    private int epoch = 1;
+    private int root = -1;
+    private int size = 0;
+
+    public PairingHeap(int capacity) {
+        keys = new double[capacity];
+        child = new int[capacity];
+        sibling = new int[capacity];
+        previous = new int[capacity];
+        member = new int[capacity];
+        scratch = new int[capacity];
+    }
+
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    @Override
+    public int size() { return size; }
+
+    @Override
+    public boolean contains(int item) { return member[item] == epoch; }
+
+    @Override
+    public double getKey(int item) { return keys[item]; }
+
+    @Override
+    public void insert(int item, double key) {
+        keys[item] = key;
+        child[item] = -1;
+        sibling[item] = -1;
+        previous[item] = -1;
+        member[item] = epoch;
+        root = meld(root, item);
+        size++;
+    }
+
+    @Override
+    public void decreaseKey(int item, double key) {
+        keys[item] = key;
+        if (item == root) return;
+
+        // Corta a subárvore do item e a funde à raiz
+        int prev = previous[item];
+        if (child[prev] == item) {
+            child[prev] = sibling[item];
+        } else {
+            sibling[prev] = sibling[item];
+        }
+        if (sibling[item] >= 0) {
+            previous[sibling[item]] = prev;
+        }
+        sibling[item] = -1;
+        previous[item] = -1;
+        root = meld(root, item);
+    }
+
+    @Override
+    public int poll() {
+        int top = root;
+        member[top] = 0;
+        size--;
+        root = mergePairs(child[top]);
+        return top;
+    }
+
+    @Override
+    public void clear() {
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(member, 0);
+            epoch = 1;
+        }
+        root = -1;
+        size = 0;
+    }
+
+    // Funde duas raízes; a de chave maior vira o primeiro filho da outra
+    private int meld(int a, int b) {
+        if (a < 0) return b;
+        if (b < 0) return a;
+        if (keys[b] < keys[a]) {
+            int t = a;
+            a = b;
+            b = t;
+        }
+        int first = child[a];
+        sibling[b] = first;
+        if (first >= 0) previous[first] = b;
+        previous[b] = a;
+        child[a] = b;
+        return a;
+    }
+
+    // Duas passadas: funde os filhos aos pares da esquerda para a direita e depois
+    // acumula os pares da direita para a esquerda
+    private int mergePairs(int first) {
+        int count = 0;
+        int node = first;
+        while (node >= 0) {
+            int a = node;
+            int b = sibling[a];
+            node = b >= 0 ? sibling[b] : -1;
+            sibling[a] = -1;
+            previous[a] = -1;
+            if (b >= 0) {
+                sibling[b] = -1;
+                previous[b] = -1;
+            }
+            scratch[count++] = meld(a, b);
+        }
+
+        int result = -1;
+        while (count > 0) {
+            result = meld(scratch[--count], result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.algorithms;
+
+import org.example.graph.GraphSnapshot;
+import org.example.graph.Vertex;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Busca em largura paralela por níveis no ForkJoinPool. A fronteira de cada nível é
+ * dividida em blocos; cada bloco é expandido por uma thread num buffer próprio e os
+ * vértices são reivindicados por compare-and-set num bitmap de visitados, então cada
+ * vértice entra uma única vez na próxima fronteira.
+ *
+ * No modo determinístico a próxima fronteira é ordenada pelo id e o pai de cada vértice é
+ * o vizinho de menor id no nível anterior, de modo que ordem de visita, pais e árvore não
+ * dependem do escalonamento das threads. Sem ele, o pai é quem reivindicou o vértice.
+ */
+public class ParallelBFS {
+    // Tamanho dos blocos da fronteira distribuídos entre as threads
+    private static final int BLOCK = 1024;
+
+    public static BreadthFirstSearch.BFSResult performBFS(GraphSnapshot graph, Vertex startVertex) {
+        return performBFS(graph, startVertex, false, ForkJoinPool.commonPool());
+    }
+
+    public static BreadthFirstSearch.BFSResult performBFS(GraphSnapshot graph, Vertex startVertex,
+                                                          boolean deterministic) {
+        return performBFS(graph, startVertex, deterministic, ForkJoinPool.commonPool());
+    }
+
+    public static BreadthFirstSearch.BFSResult performBFS(GraphSnapshot graph, Vertex startVertex,
+                                                          boolean deterministic, ForkJoinPool pool) {
+        if (graph == null || startVertex == null) {
+            return null;
+        }
+
+        int start = graph.indexOf(startVertex);
+        if (start < 0) {
+            return null;
+        }
+
+        int n = graph.getVertexCount();
+        int[] order = new int[n];
+        int[] distance = new int[n];
+        int[] parentConnection = new int[n];
+        Arrays.fill(distance, -1);
+        AtomicLongArray visited = new AtomicLongArray((n + 63) >>> 6);
+
+        order[0] = start;
+        distance[start] = 0;
+        parentConnection[start] = -1;
+        claim(visited, start);
+
+        int levelBegin = 0;
+        int levelEnd = 1;
+        int level = 0;
+
+        while (levelBegin < levelEnd) {
+            int begin = levelBegin;
+            int end = levelEnd;
+            int nextDistance = level + 1;
+            int blocks = (end - begin + BLOCK - 1) / BLOCK;
+
+            int[][] buffers = pool.submit(() -> IntStream.range(0, blocks).parallel().mapToObj(b -> {
+                int[] buffer = new int[16];
+                int size = 0;
+                int blockEnd = Math.min(end, begin + (b + 1) * BLOCK);
+                for (int i = begin + b * BLOCK; i < blockEnd; i++) {
+                    int u = order[i];
+                    for (int arc = graph.outBegin(u), stop = graph.outEnd(u); arc < stop; arc++) {
+                        int v = graph.outTarget(arc);
+                        if (!isVisited(visited, v) && claim(visited, v)) {
+                            if (!deterministic) {
+                                distance[v] = nextDistance;
+                                parentConnection[v] = graph.outConnection(arc);
+                            }
+                            if (size == buffer.length) buffer = Arrays.copyOf(buffer, size * 2);
+                            buffer[size++] = v;
+                        }
+                    }
+                }
+                return Arrays.copyOf(buffer, size);
+            }).toArray(int[][]::new)).join();
+
+            int next = end;
+            for (int[] buffer : buffers) {
+                System.arraycopy(buffer, 0, order, next, buffer.length);
+                next += buffer.length;
+            }
+
+            if (deterministic && next > end) {
+                int nextEnd = next;
+                pool.submit(() -> {
+                    Arrays.parallelSort(order, end, nextEnd);
+                    IntStream.range(end, nextEnd).parallel().forEach(i -> distance[order[i]] = nextDistance);
+                    // Pai = vizinho de entrada de menor id no nível anterior
+                    IntStream.range(end, nextEnd).parallel().forEach(i -> {
+                        int v = order[i];
+                        int bestParent = Integer.MAX_VALUE;
+                        int bestConnection = -1;
+                        for (int arc = graph.inBegin(v), stop = graph.inEnd(v); arc < stop; arc++) {
+                            int u = graph.inSource(arc);
+                            if (u < bestParent && distance[u] == nextDistance - 1) {
+                                bestParent = u;
+                                bestConnection = graph.inConnection(arc);
+                            }
+                        }
+                        parentConnection[v] = bestConnection;
+                    });
+                }).join();
+            }
+
+            levelBegin = end;
+            levelEnd = next;
+            level++;
+        }
+
+        return BreadthFirstSearch.BFSResult.fromArrays(graph, order, levelEnd, distance, parentConnection,
+                startVertex);
+    }
+
+    private static boolean isVisited(AtomicLongArray visited, int v) {
+        return (visited.get(v >>> 6) & (1L << v)) != 0;
+    }
+
+    // Marca v como visitado; true apenas para a thread que efetivamente o marcou
+    private static boolean claim(AtomicLongArray visited, int v) {
+        int word = v >>> 6;
+        long bit = 1L << v;
+        long current = visited.get(word);
+        while ((current & bit) == 0) {
+            if (visited.compareAndSet(word, current, current | bit)) return true;
+            current = visited.get(word);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,283 @@
+package org.example.algorithms;
+
+import org.example.graph.Connection;
+import org.example.graph.GraphSnapshot;
+import org.example.graph.Vertex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Componentes fortemente conexos em paralelo, para grafos dirigidos grandes.
+ *
+ * 1. Poda (trim): vértices sem arcos de entrada ou de saída entre os ativos são componentes
+ *    unitários; os graus são contados em paralelo e a poda em cascata é linear.
+ * 2. Forward-backward: a partir de um pivô de grau alto, busca em largura paralela para
+ *    frente e, dentro do alcançado, para trás; a interseção é o componente do pivô
+ *    (normalmente o componente gigante).
+ * 3. Propagação de cores: cada vértice ativo recebe a maior cor (id) que o alcança; cada
+ *    vértice cuja cor é o próprio id é raiz de um componente, obtido por busca para trás
+ *    dentro da sua cor. As raízes são processadas em paralelo e a etapa se repete até
+ *    não restarem vértices ativos.
+ *
+ * O resultado tem o mesmo formato de KosarajuSCC.findSCCs, sem garantia de ordem entre
+ * os componentes.
+ */
+public class ParallelSCC {
+    private static final int ACTIVE = -1;
+    // Tamanho dos blocos da fronteira distribuídos entre as threads
+    private static final int BLOCK = 1024;
+
+    public static List<List<Vertex>> findSCCs(List<Vertex> vertexList, List<Connection> connectionList) {
+        return findSCCs(GraphSnapshot.of(vertexList, connectionList), ForkJoinPool.commonPool());
+    }
+
+    public static List<List<Vertex>> findSCCs(List<Vertex> vertexList, List<Connection> connectionList, int threads) {
+        return findSCCs(GraphSnapshot.of(vertexList, connectionList), threads);
+    }
+
+    public static List<List<Vertex>> findSCCs(GraphSnapshot graph, int threads) {
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, threads));
+        try {
+            return findSCCs(graph, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public static List<List<Vertex>> findSCCs(GraphSnapshot graph, ForkJoinPool pool) {
+        int n = graph.getVertexCount();
+        int[] component = new int[n];
+        Arrays.fill(component, ACTIVE);
+        AtomicInteger componentCount = new AtomicInteger();
+
+        int[] inDegree = new int[n];
+        int[] outDegree = new int[n];
+        trim(graph, pool, component, componentCount, inDegree, outDegree);
+
+        int pivot = choosePivot(component, inDegree, outDegree);
+        if (pivot >= 0) {
+            forwardBackward(graph, pool, pivot, component, componentCount.getAndIncrement());
+        }
+
+        colorPropagation(graph, pool, component, componentCount);
+
+        List<List<Vertex>> components = new ArrayList<>(componentCount.get());
+        for (int i = 0; i < componentCount.get(); i++) {
+            components.add(new ArrayList<>());
+        }
+        for (int v = 0; v < n; v++) {
+            components.get(component[v]).add(graph.getVertex(v));
+        }
+        return components;
+    }
+
+    // --- Poda -----------------------------------------------------------
+
+    private static void trim(GraphSnapshot graph, ForkJoinPool pool, int[] component,
+                             AtomicInteger componentCount, int[] inDegree, int[] outDegree) {
+        int n = graph.getVertexCount();
+
+        // Laços não contam: um vértice só com laço continua sendo componente unitário
+        pool.submit(() -> IntStream.range(0, n).parallel().forEach(v -> {
+            int out = 0;
+            for (int arc = graph.outBegin(v); arc < graph.outEnd(v); arc++) {
+                if (graph.outTarget(arc) != v) out++;
+            }
+            int in = 0;
+            for (int arc = graph.inBegin(v); arc < graph.inEnd(v); arc++) {
+                if (graph.inSource(arc) != v) in++;
+            }
+            outDegree[v] = out;
+            inDegree[v] = in;
+        })).join();
+
+        // Cada vértice entra na fila uma única vez: quando o primeiro dos seus graus zera
+        int[] queue = new int[n];
+        int tail = 0;
+        for (int v = 0; v < n; v++) {
+            if (inDegree[v] == 0 || outDegree[v] == 0) queue[tail++] = v;
+        }
+
+        for (int head = 0; head < tail; head++) {
+            int v = queue[head];
+            component[v] = componentCount.getAndIncrement();
+
+            for (int arc = graph.outBegin(v); arc < graph.outEnd(v); arc++) {
+                int w = graph.outTarget(arc);
+                if (w != v && component[w] == ACTIVE && --inDegree[w] == 0 && outDegree[w] != 0) {
+                    queue[tail++] = w;
+                }
+            }
+            for (int arc = graph.inBegin(v); arc < graph.inEnd(v); arc++) {
+                int w = graph.inSource(arc);
+                if (w != v && component[w] == ACTIVE && --outDegree[w] == 0 && inDegree[w] != 0) {
+                    queue[tail++] = w;
+                }
+            }
+        }
+    }
+
+    private static int choosePivot(int[] component, int[] inDegree, int[] outDegree) {
+        int pivot = -1;
+        long bestScore = -1;
+        for (int v = 0; v < component.length; v++) {
+            if (component[v] != ACTIVE) continue;
+            long score = (long) inDegree[v] * outDegree[v];
+            if (score > bestScore) {
+                bestScore = score;
+                pivot = v;
+            }
+        }
+        return pivot;
+    }
+
+    // --- Forward-backward -----------------------------------------------
+
+    private static void forwardBackward(GraphSnapshot graph, ForkJoinPool pool, int pivot,
+                                        int[] component, int componentId) {
+        int n = graph.getVertexCount();
+        AtomicIntegerArray forward = new AtomicIntegerArray(n);
+        AtomicIntegerArray backward = new AtomicIntegerArray(n);
+
+        parallelReach(graph, pool, pivot, true, forward, w -> component[w] == ACTIVE);
+
+        // Todo vértice que alcança o pivô por um caminho a partir dele já está em forward
+        int[] reached = parallelReach(graph, pool, pivot, false, backward, w -> forward.get(w) != 0);
+
+        for (int v : reached) {
+            component[v] = componentId;
+        }
+    }
+
+    /**
+     * Busca em largura paralela por níveis, pelos arcos de saída (forward) ou de entrada.
+     * Cada bloco da fronteira é expandido por uma thread num buffer próprio, e o vértice é
+     * reivindicado por compare-and-set em visited. Devolve todos os vértices alcançados.
+     */
+    private static int[] parallelReach(GraphSnapshot graph, ForkJoinPool pool, int source, boolean forward,
+                                       AtomicIntegerArray visited, IntPredicate allowed) {
+        visited.set(source, 1);
+        int[] reached = new int[]{source};
+        int reachedCount = 1;
+        int[] frontier = new int[]{source};
+
+        while (frontier.length > 0) {
+            int[] current = frontier;
+            int blocks = (current.length + BLOCK - 1) / BLOCK;
+
+            int[][] buffers = pool.submit(() -> IntStream.range(0, blocks).parallel().mapToObj(b -> {
+                int[] buffer = new int[16];
+                int size = 0;
+                int end = Math.min(current.length, (b + 1) * BLOCK);
+                for (int i = b * BLOCK; i < end; i++) {
+                    int u = current[i];
+                    int begin = forward ? graph.outBegin(u) : graph.inBegin(u);
+                    int stop = forward ? graph.outEnd(u) : graph.inEnd(u);
+                    for (int arc = begin; arc < stop; arc++) {
+                        int w = forward ? graph.outTarget(arc) : graph.inSource(arc);
+                        if (visited.get(w) == 0 && allowed.test(w) && visited.compareAndSet(w, 0, 1)) {
+                            if (size == buffer.length) buffer = Arrays.copyOf(buffer, size * 2);
+                            buffer[size++] = w;
+                        }
+                    }
+                }
+                return Arrays.copyOf(buffer, size);
+            }).toArray(int[][]::new)).join();
+
+            int nextSize = 0;
+            for (int[] buffer : buffers) nextSize += buffer.length;
+            frontier = new int[nextSize];
+            int pos = 0;
+            for (int[] buffer : buffers) {
+                System.arraycopy(buffer, 0, frontier, pos, buffer.length);
+                pos += buffer.length;
+            }
+
+            if (reachedCount + nextSize > reached.length) {
+                reached = Arrays.copyOf(reached, Math.max(reached.length * 2, reachedCount + nextSize));
+            }
+            System.arraycopy(frontier, 0, reached, reachedCount, nextSize);
+            reachedCount += nextSize;
+        }
+
+        return Arrays.copyOf(reached, reachedCount);
+    }
+
+    // --- Propagação de cores ----------------------------------------------
+
+    private static void colorPropagation(GraphSnapshot graph, ForkJoinPool pool, int[] component,
+                                         AtomicInteger componentCount) {
+        int n = graph.getVertexCount();
+        AtomicIntegerArray color = new AtomicIntegerArray(n);
+        int[] active = activeVertices(component);
+
+        while (active.length > 0) {
+            int[] current = active;
+            for (int v : current) {
+                color.set(v, v);
+            }
+
+            // Cada vértice recebe a maior cor entre os ativos que o alcançam
+            boolean changed = true;
+            while (changed) {
+                changed = pool.submit(() -> IntStream.range(0, current.length).parallel().map(i -> {
+                    int v = current[i];
+                    int c = color.get(v);
+                    int updated = 0;
+                    for (int arc = graph.outBegin(v); arc < graph.outEnd(v); arc++) {
+                        int w = graph.outTarget(arc);
+                        if (component[w] == ACTIVE && raise(color, w, c)) updated = 1;
+                    }
+                    return updated;
+                }).max().orElse(0)).join() > 0;
+            }
+
+            // Raízes: vértices com a própria cor. Cores diferentes são disjuntas, então as
+            // buscas para trás de raízes distintas não se sobrepõem
+            pool.submit(() -> IntStream.range(0, current.length).parallel().forEach(i -> {
+                int root = current[i];
+                if (color.get(root) != root) return;
+
+                int id = componentCount.getAndIncrement();
+                int[] stack = new int[16];
+                int top = 0;
+                component[root] = id;
+                stack[top++] = root;
+                while (top > 0) {
+                    int u = stack[--top];
+                    for (int arc = graph.inBegin(u); arc < graph.inEnd(u); arc++) {
+                        int w = graph.inSource(arc);
+                        if (component[w] == ACTIVE && color.get(w) == root) {
+                            component[w] = id;
+                            if (top == stack.length) stack = Arrays.copyOf(stack, top * 2);
+                            stack[top++] = w;
+                        }
+                    }
+                }
+            })).join();
+
+            active = activeVertices(component);
+        }
+    }
+
+    private static int[] activeVertices(int[] component) {
+        return IntStream.range(0, component.length).filter(v -> component[v] == ACTIVE).toArray();
+    }
+
+    // Máximo atômico por compare-and-set; true se a cor de w aumentou
+    private static boolean raise(AtomicIntegerArray color, int w, int c) {
+        int current = color.get(w);
+        while (c > current) {
+            if (color.compareAndSet(w, current, c)) return true;
+            current = color.get(w);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.algorithms;
+
+import org.example.graph.Connection;
+import org.example.graph.GraphSnapshot;
+import org.example.graph.Vertex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado de uma consulta de caminho ponto a ponto sobre GraphSnapshot: as ligações do
+ * caminho em ordem (ids do snapshot), o custo total e quantos vértices a busca fechou.
+ */
+public class PathResult {
+    private final GraphSnapshot graph;
+    private final int source;
+    private final int target;
+    private final int[] connections;
+    private final double cost;
+    private final int settledCount;
+
+    PathResult(GraphSnapshot graph, int source, int target, int[] connections, double cost, int settledCount) {
+        this.graph = graph;
+        this.source = source;
+        this.target = target;
+        this.connections = connections;
+        this.cost = cost;
+        this.settledCount = settledCount;
+    }
+
+    static PathResult notFound(GraphSnapshot graph, int source, int target, int settledCount) {
+        return new PathResult(graph, source, target, null, Double.POSITIVE_INFINITY, settledCount);
+    }
+
+    public boolean isFound() {
+        return connections != null;
+    }
+
+    // Infinito quando não há caminho
+    public double getCost() {
+        return cost;
+    }
+
+    public int getSettledCount() {
+        return settledCount;
+    }
+
+    public int getSource() {
+        return source;
+    }
+
+    public int getTarget() {
+        return target;
+    }
+
+    public int getConnectionCount() {
+        return connections != null ? connections.length : 0;
+    }
+
+    public int getConnectionId(int index) {
+        return connections[index];
+    }
+
+    public List<Connection> getConnections() {
+        List<Connection> path = new ArrayList<>(getConnectionCount());
+        for (int i = 0; i < getConnectionCount(); i++) {
+            path.add(graph.getConnection(connections[i]));
+        }
+        return path;
+    }
+
+    // Vértices do caminho, da origem ao destino; lista vazia se não houver caminho
+    public List<Vertex> getVertices() {
+        List<Vertex> path = new ArrayList<>();
+        if (connections == null) {
+            return path;
+        }
+
+        int v = source;
+        path.add(graph.getVertex(v));
+        for (int connection : connections) {
+            v = TraversalViews.otherEndpoint(graph, connection, v);
+            path.add(graph.getVertex(v));
+        }
+        return path;
+    }
+}
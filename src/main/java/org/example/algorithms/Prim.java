@@ -1,6 +1,7 @@
 package org.example.algorithms;
 
 import org.example.graph.Connection;
+import org.example.graph.GraphSnapshot;
 import org.example.graph.Vertex;
 
 import java.util.*;
@@ -30,17 +31,66 @@ public class Prim {
         private final List<Connection> mstEdges;
         private final double totalWeight;
         private final Vertex startVertex;
+        // Uma árvore por componente conexa (uma só quando o grafo é conexo)
+        private final List<List<Connection>> trees;
+        private final double[] treeWeights;
 
         public PrimResult(List<Connection> mstEdges, double totalWeight, Vertex startVertex) {
             this.mstEdges = new ArrayList<>(mstEdges);
             this.totalWeight = totalWeight;
             this.startVertex = startVertex;
+            this.trees = List.of(this.mstEdges);
+            this.treeWeights = new double[]{totalWeight};
+        }
+
+        // Floresta geradora mínima: trees.get(i) tem peso total treeWeights[i]
+        public PrimResult(List<List<Connection>> trees, double[] treeWeights) {
+            this.trees = new ArrayList<>(trees.size());
+            this.mstEdges = new ArrayList<>();
+            double total = 0.0;
+            for (int i = 0; i < trees.size(); i++) {
+                this.trees.add(new ArrayList<>(trees.get(i)));
+                this.mstEdges.addAll(trees.get(i));
+                total += treeWeights[i];
+            }
+            this.totalWeight = total;
+            this.treeWeights = treeWeights.clone();
+            this.startVertex = null;
+        }
+
+        // Agrupa as ligações escolhidas por componente do union-find (componentes na ordem dos vértices)
+        static PrimResult fromForest(GraphSnapshot graph, UnionFind unionFind, int[] chosen, int chosenCount) {
+            int n = graph.getVertexCount();
+            int[] label = new int[n];
+            List<List<Connection>> trees = new ArrayList<>(unionFind.getComponentCount());
+            for (int v = 0; v < n; v++) {
+                int root = unionFind.find(v);
+                if (label[root] == 0) {
+                    trees.add(new ArrayList<>());
+                    label[root] = trees.size();
+                }
+            }
+
+            double[] treeWeights = new double[trees.size()];
+            for (int i = 0; i < chosenCount; i++) {
+                int c = chosen[i];
+                int tree = label[unionFind.find(graph.getConnectionSource(c))] - 1;
+                trees.get(tree).add(graph.getConnection(c));
+                treeWeights[tree] += graph.getConnectionWeight(c);
+            }
+            return new PrimResult(trees, treeWeights);
         }
 
         public List<Connection> getMstEdges() { return new ArrayList<>(mstEdges); }
         public double getTotalWeight() { return totalWeight; }
         public Vertex getStartVertex() { return startVertex; }
         public int getEdgeCount() { return mstEdges.size(); }
+
+        public int getTreeCount() { return trees.size(); }
+        public boolean isForest() { return trees.size() > 1; }
+        public List<Connection> getTreeEdges(int tree) { return new ArrayList<>(trees.get(tree)); }
+        public double getTreeWeight(int tree) { return treeWeights[tree]; }
+        public double[] getTreeWeights() { return treeWeights.clone(); }
     }
 
     public static PrimResult findMinimumSpanningTree(List<Vertex> vertexList,
@@ -108,7 +158,7 @@ public class Prim {
                                                 Set<Vertex> visited,
                                                 PriorityQueue<WeightedEdge> edgeQueue) {
 
-        for (Connection connection : connectionList) {
+        for (Connection connection : vertex.getIncidentConnections()) {
             Vertex other = null;
 
             if (connection.getSource().equals(vertex) && !visited.contains(connection.getTarget())) {
@@ -123,6 +173,123 @@ public class Prim {
         }
     }
 
+    /**
+     * Prim com heap indexado (decrease-key) sobre os ids inteiros do GraphSnapshot.
+     * key[v] guarda o menor peso que liga v à árvore e parentConnection[v] a ligação
+     * correspondente; cada vértice ocupa no máximo uma entrada do heap, então a execução
+     * custa O(E log V) sem alocar objetos por aresta.
+     */
+    public static PrimResult findMinimumSpanningTree(GraphSnapshot graph, Vertex startVertex) {
+        if (graph == null || startVertex == null || graph.getConnectionCount() == 0) {
+            return null;
+        }
+
+        int start = graph.indexOf(startVertex);
+        if (start < 0) {
+            return null;
+        }
+
+        int n = graph.getVertexCount();
+        double[] key = new double[n];
+        int[] parentConnection = new int[n];
+        boolean[] inTree = new boolean[n];
+        Arrays.fill(key, Double.POSITIVE_INFINITY);
+        Arrays.fill(parentConnection, -1);
+
+        IndexedMinHeap heap = new IndexedMinHeap(n);
+        List<Connection> mst = new ArrayList<>(n - 1);
+        double totalWeight = growTree(graph, start, key, parentConnection, inTree, heap, mst);
+
+        // Árvore incompleta: o grafo não é conexo
+        if (mst.size() < n - 1) {
+            return null;
+        }
+
+        return new PrimResult(mst, totalWeight, startVertex);
+    }
+
+    public static PrimResult findMinimumSpanningForest(List<Vertex> vertexList, List<Connection> connectionList) {
+        if (vertexList == null || connectionList == null) {
+            return null;
+        }
+        return findMinimumSpanningForest(GraphSnapshot.of(vertexList, connectionList));
+    }
+
+    /**
+     * Floresta geradora mínima em uma única passada: cada vértice ainda fora de alguma árvore
+     * inicia uma nova execução de Prim, reaproveitando os mesmos vetores e o mesmo heap.
+     * O resultado traz uma árvore (e o seu peso) por componente conexa.
+     */
+    public static PrimResult findMinimumSpanningForest(GraphSnapshot graph) {
+        if (graph == null || graph.getVertexCount() == 0) {
+            return null;
+        }
+
+        int n = graph.getVertexCount();
+        double[] key = new double[n];
+        int[] parentConnection = new int[n];
+        boolean[] inTree = new boolean[n];
+        Arrays.fill(key, Double.POSITIVE_INFINITY);
+        Arrays.fill(parentConnection, -1);
+
+        IndexedMinHeap heap = new IndexedMinHeap(n);
+        List<List<Connection>> trees = new ArrayList<>();
+        double[] treeWeights = new double[n];
+
+        for (int root = 0; root < n; root++) {
+            if (inTree[root]) continue;
+
+            List<Connection> tree = new ArrayList<>();
+            treeWeights[trees.size()] = growTree(graph, root, key, parentConnection, inTree, heap, tree);
+            trees.add(tree);
+        }
+
+        return new PrimResult(trees, Arrays.copyOf(treeWeights, trees.size()));
+    }
+
+    // Executa Prim a partir de root, acrescentando as ligações em treeEdges; devolve o peso da árvore
+    private static double growTree(GraphSnapshot graph, int root, double[] key, int[] parentConnection,
+                                   boolean[] inTree, IndexedMinHeap heap, List<Connection> treeEdges) {
+        double treeWeight = 0.0;
+
+        key[root] = 0.0;
+        heap.insert(root, 0.0);
+
+        while (!heap.isEmpty()) {
+            int u = heap.poll();
+            inTree[u] = true;
+
+            if (parentConnection[u] >= 0) {
+                treeEdges.add(graph.getConnection(parentConnection[u]));
+                treeWeight += key[u];
+            }
+
+            for (int arc = graph.outBegin(u), end = graph.outEnd(u); arc < end; arc++) {
+                relax(graph.outTarget(arc), graph.outWeight(arc), graph.outConnection(arc),
+                        key, parentConnection, inTree, heap);
+            }
+
+            // Prim ignora a orientação: em grafos com arcos também seguimos as ligações de entrada
+            if (graph.isDirected()) {
+                for (int arc = graph.inBegin(u), end = graph.inEnd(u); arc < end; arc++) {
+                    relax(graph.inSource(arc), graph.inWeight(arc), graph.inConnection(arc),
+                            key, parentConnection, inTree, heap);
+                }
+            }
+        }
+
+        return treeWeight;
+    }
+
+    private static void relax(int v, double weight, int connection, double[] key, int[] parentConnection,
+                              boolean[] inTree, IndexedMinHeap heap) {
+        if (!inTree[v] && weight < key[v]) {
+            key[v] = weight;
+            parentConnection[v] = connection;
+            heap.insertOrDecrease(v, weight);
+        }
+    }
+
     public static boolean isConnected(List<Vertex> vertexList, List<Connection> connectionList) {
         if (vertexList.isEmpty()) return true;
 
@@ -136,7 +303,7 @@ public class Prim {
         while (!queue.isEmpty()) {
             Vertex current = queue.poll();
 
-            for (Connection connection : connectionList) {
+            for (Connection connection : current.getIncidentConnections()) {
                 Vertex neighbor = null;
 
                 if (connection.getSource().equals(current)) {
@@ -0,0 +1,133 @@
+package org.example.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Heap radix indexado para chaves inteiras não negativas e monótonas (nenhuma chave
+ * menor que o último mínimo removido), como as distâncias do Dijkstra com pesos
+ * inteiros. O item com chave k fica no balde do bit mais alto em que k difere do último
+ * mínimo; ao esvaziar o balde 0, o primeiro balde não vazio é redistribuído a partir do
+ * seu mínimo. Cada item desce de balde no máximo 64 vezes: O(log C) amortizado.
+ *
+ * Os baldes são listas duplamente encadeadas em vetores, então decrease-key só move o
+ * item de balde.
+ */
+public class RadixHeap implements IntPriorityQueue {
+    private static final int BUCKETS = 65;
+
+    private final long[] keys;
+    private final int[] bucketOf;
+    private final int[] next;
+    private final int[] previous;
+    private final int[] head = new int[BUCKETS];
+    private long last = 0;
+    private int size = 0;
+
+    public RadixHeap(int capacity) {
+        keys = new long[capacity];
+        bucketOf = new int[capacity];
+        next = new int[capacity];
+        previous = new int[capacity];
+        Arrays.fill(bucketOf, -1);
+        Arrays.fill(head, -1);
+    }
+
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    @Override
+    public int size() { return size; }
+
+    @Override
+    public boolean contains(int item) { return bucketOf[item] >= 0; }
+
+    @Override
+    public double getKey(int item) { return keys[item]; }
+
+    @Override
+    public void insert(int item, double key) {
+        keys[item] = toKey(key);
+        link(item, bucket(keys[item]));
+        size++;
+    }
+
+    @Override
+    public void decreaseKey(int item, double key) {
+        unlink(item);
+        keys[item] = toKey(key);
+        link(item, bucket(keys[item]));
+    }
+
+    @Override
+    public int poll() {
+        if (head[0] < 0) {
+            int b = 1;
+            while (head[b] < 0) b++;
+
+            long min = Long.MAX_VALUE;
+            for (int item = head[b]; item >= 0; item = next[item]) {
+                min = Math.min(min, keys[item]);
+            }
+            last = min;
+
+            // Com o novo último mínimo, todos os itens do balde vão para baldes menores
+            int item = head[b];
+            head[b] = -1;
+            while (item >= 0) {
+                int following = next[item];
+                link(item, bucket(keys[item]));
+                item = following;
+            }
+        }
+
+        int top = head[0];
+        unlink(top);
+        bucketOf[top] = -1;
+        size--;
+        return top;
+    }
+
+    // Esvazia o heap em O(size) e volta a aceitar qualquer chave não negativa
+    @Override
+    public void clear() {
+        for (int b = 0; b < BUCKETS; b++) {
+            for (int item = head[b]; item >= 0; item = next[item]) {
+                bucketOf[item] = -1;
+            }
+            head[b] = -1;
+        }
+        last = 0;
+        size = 0;
+    }
+
+    private long toKey(double key) {
+        long value = (long) key;
+        if (value != key || value < last) {
+            throw new IllegalArgumentException(
+                    "RadixHeap aceita apenas chaves inteiras, não negativas e monótonas: " + key);
+        }
+        return value;
+    }
+
+    private int bucket(long key) {
+        return key == last ? 0 : 64 - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    private void link(int item, int b) {
+        bucketOf[item] = b;
+        previous[item] = -1;
+        next[item] = head[b];
+        if (head[b] >= 0) previous[head[b]] = item;
+        head[b] = item;
+    }
+
+    private void unlink(int item) {
+        int b = bucketOf[item];
+        if (previous[item] >= 0) {
+            next[previous[item]] = next[item];
+        } else {
+            head[b] = next[item];
+        }
+        if (next[item] >= 0) previous[next[item]] = previous[item];
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.algorithms;
+
+import org.example.graph.Connection;
+import org.example.graph.GraphSnapshot;
+import org.example.graph.Vertex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Componentes fortemente conexos pelo algoritmo de Tarjan em uma única DFS iterativa,
+ * com pilha explícita sobre ids inteiros: O(V + E), sem recursão e sem grafo transposto.
+ *
+ * Os componentes são numerados em ordem topológica do grafo condensado: todo arco entre
+ * componentes diferentes vai de um id menor para um id maior.
+ */
+public class TarjanSCC {
+    private static final int UNVISITED = -1;
+
+    public static class SCCResult {
+        private final GraphSnapshot graph;
+        private final int[] component;
+        private final int componentCount;
+
+        SCCResult(GraphSnapshot graph, int[] component, int componentCount) {
+            this.graph = graph;
+            this.component = component;
+            this.componentCount = componentCount;
+        }
+
+        public GraphSnapshot getGraph() { return graph; }
+        public int getComponentCount() { return componentCount; }
+        public int getComponentOf(int vertex) { return component[vertex]; }
+        public int[] getComponentIds() { return component.clone(); }
+
+        // Vetor interno, sem cópia, para os outros algoritmos do pacote
+        int[] componentIds() { return component; }
+
+        /** Vértices de cada componente, na ordem dos ids dos vértices. */
+        public List<List<Vertex>> getComponents() {
+            List<List<Vertex>> components = new ArrayList<>(componentCount);
+            for (int i = 0; i < componentCount; i++) {
+                components.add(new ArrayList<>());
+            }
+            for (int v = 0; v < component.length; v++) {
+                components.get(component[v]).add(graph.getVertex(v));
+            }
+            return components;
+        }
+    }
+
+    public static List<List<Vertex>> findSCCs(List<Vertex> vertexList, List<Connection> connectionList) {
+        return findSCCs(GraphSnapshot.of(vertexList, connectionList)).getComponents();
+    }
+
+    public static SCCResult findSCCs(GraphSnapshot graph) {
+        int n = graph.getVertexCount();
+        int[] index = new int[n];
+        int[] low = new int[n];
+        int[] cursor = new int[n];
+        boolean[] onStack = new boolean[n];
+        int[] callStack = new int[n];
+        int[] sccStack = new int[n];
+        int[] component = new int[n];
+        Arrays.fill(index, UNVISITED);
+
+        int counter = 0;
+        int sccTop = 0;
+        int componentCount = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (index[root] != UNVISITED) continue;
+
+            int top = 0;
+            index[root] = low[root] = counter++;
+            cursor[root] = graph.outBegin(root);
+            sccStack[sccTop++] = root;
+            onStack[root] = true;
+            callStack[top++] = root;
+
+            while (top > 0) {
+                int u = callStack[top - 1];
+
+                if (cursor[u] < graph.outEnd(u)) {
+                    int v = graph.outTarget(cursor[u]++);
+                    if (index[v] == UNVISITED) {
+                        index[v] = low[v] = counter++;
+                        cursor[v] = graph.outBegin(v);
+                        sccStack[sccTop++] = v;
+                        onStack[v] = true;
+                        callStack[top++] = v;
+                    } else if (onStack[v] && index[v] < low[u]) {
+                        low[u] = index[v];
+                    }
+                    continue;
+                }
+
+                // u terminou: propaga o low para o pai e fecha o componente se u for a raiz dele
+                top--;
+                if (top > 0) {
+                    int p = callStack[top - 1];
+                    if (low[u] < low[p]) low[p] = low[u];
+                }
+
+                if (low[u] == index[u]) {
+                    int w;
+                    do {
+                        w = sccStack[--sccTop];
+                        onStack[w] = false;
+                        component[w] = componentCount;
+                    } while (w != u);
+                    componentCount++;
+                }
+            }
+        }
+
+        // Tarjan fecha os componentes em ordem topológica reversa; inverte a numeração
+        for (int v = 0; v < n; v++) {
+            component[v] = componentCount - 1 - component[v];
+        }
+
+        return new SCCResult(graph, component, componentCount);
+    }
+}
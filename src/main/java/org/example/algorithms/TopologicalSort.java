@@ -0,0 +1,120 @@
+package org.example.algorithms;
+
+import org.example.graph.Connection;
+import org.example.graph.GraphSnapshot;
+import org.example.graph.Vertex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ordenação topológica (Kahn, com vetor int de graus de entrada) e detecção de ciclos
+ * com testemunha, ambas lineares.
+ *
+ * A detecção usa o esquema de três cores da DFS iterativa: um arco que chega a um
+ * vértice ainda aberto (cinza) fecha um ciclo. Arestas aparecem nos dois sentidos no
+ * snapshot, então voltar pela própria aresta da árvore não conta como ciclo; assim o
+ * mesmo teste vale para grafos com arcos, com arestas ou mistos.
+ */
+public class TopologicalSort {
+
+    public static List<Vertex> sort(List<Vertex> vertexList, List<Connection> connectionList) {
+        GraphSnapshot graph = GraphSnapshot.of(vertexList, connectionList);
+        int[] order = sort(graph);
+        return order != null ? toVertices(graph, order) : null;
+    }
+
+    /**
+     * Ids dos vértices em ordem topológica, seguindo os arcos de saída, ou null se o
+     * grafo tem ciclo. Entre vértices livres vale a ordem de id. Arestas contam nos dois
+     * sentidos, então só grafos apenas com arcos têm ordem topológica.
+     */
+    public static int[] sort(GraphSnapshot graph) {
+        int n = graph.getVertexCount();
+        int[] inDegree = new int[n];
+        for (int arc = 0; arc < graph.getArcCount(); arc++) {
+            inDegree[graph.outTarget(arc)]++;
+        }
+
+        // O próprio vetor de saída serve de fila
+        int[] order = new int[n];
+        int tail = 0;
+        for (int v = 0; v < n; v++) {
+            if (inDegree[v] == 0) order[tail++] = v;
+        }
+
+        for (int head = 0; head < tail; head++) {
+            int u = order[head];
+            for (int arc = graph.outBegin(u), end = graph.outEnd(u); arc < end; arc++) {
+                int w = graph.outTarget(arc);
+                if (--inDegree[w] == 0) order[tail++] = w;
+            }
+        }
+
+        return tail == n ? order : null;
+    }
+
+    public static boolean isAcyclic(GraphSnapshot graph) {
+        return findCycle(graph) == null;
+    }
+
+    /** Vértices de um ciclo, na ordem em que são percorridos; lista vazia se não houver. */
+    public static List<Vertex> findCycle(List<Vertex> vertexList, List<Connection> connectionList) {
+        GraphSnapshot graph = GraphSnapshot.of(vertexList, connectionList);
+        int[] cycle = findCycle(graph);
+        return cycle != null ? toVertices(graph, cycle) : new ArrayList<>();
+    }
+
+    /**
+     * Ids dos vértices de um ciclo: cada um alcança o seguinte e o último volta ao primeiro
+     * (um laço dá um ciclo de um vértice). null se o grafo é acíclico.
+     */
+    public static int[] findCycle(GraphSnapshot graph) {
+        IterativeDFS dfs = IterativeDFS.outgoing(graph);
+        int[] closing = {-1, -1};
+
+        dfs.runAll(new IterativeDFS.Visitor() {
+            @Override
+            public void edge(int from, int to, int arc, IterativeDFS.EdgeType type) {
+                if (type != IterativeDFS.EdgeType.BACK) return;
+
+                // Arco de volta pela mesma aresta que levou a 'from' não é ciclo
+                int parentArc = dfs.getParentArc(from);
+                if (parentArc >= 0 && graph.outConnection(parentArc) == graph.outConnection(arc)) return;
+
+                closing[0] = to;
+                closing[1] = from;
+            }
+
+            @Override
+            public boolean isStopped() {
+                return closing[0] >= 0;
+            }
+        });
+
+        if (closing[0] < 0) {
+            return null;
+        }
+
+        // Sobe pelos pais de 'from' até o ancestral 'to'
+        int length = 1;
+        for (int v = closing[1]; v != closing[0]; v = dfs.getParent(v)) {
+            length++;
+        }
+        int[] cycle = new int[length];
+        int pos = length - 1;
+        for (int v = closing[1]; v != closing[0]; v = dfs.getParent(v)) {
+            cycle[pos--] = v;
+        }
+        cycle[0] = closing[0];
+        return cycle;
+    }
+
+    private static List<Vertex> toVertices(GraphSnapshot graph, int[] ids) {
+        List<Vertex> vertices = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            vertices.add(graph.getVertex(id));
+        }
+        return vertices;
+    }
+}
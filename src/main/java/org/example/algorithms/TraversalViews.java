@@ -0,0 +1,216 @@
+package org.example.algorithms;
+
+import org.example.graph.Connection;
+import org.example.graph.GraphSnapshot;
+import org.example.graph.Vertex;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Visões somente leitura, sem cópia, sobre os vetores de uma busca em GraphSnapshot.
+ *
+ * order[0, count) guarda os ids dos vértices visitados na ordem de visita, e o vértice v
+ * foi visitado quando marker[v] >= 0 (distância ou tempo de descoberta, -1 nos demais).
+ * parentConnection[v] é o id da ligação da árvore que alcançou v, ou -1 numa raiz.
+ * Consultas por vértice custam O(1); nada é copiado.
+ */
+final class TraversalViews {
+
+    private TraversalViews() {
+    }
+
+    static List<Vertex> vertices(GraphSnapshot graph, int[] order, int count, int[] marker) {
+        return new AbstractList<>() {
+            @Override
+            public Vertex get(int index) {
+                if (index < 0 || index >= count) throw new IndexOutOfBoundsException(index);
+                return graph.getVertex(order[index]);
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return idOf(graph, marker, o) >= 0;
+            }
+        };
+    }
+
+    // Ligações da árvore na ordem em que os vértices foram alcançados (raízes não entram)
+    static List<Connection> treeEdges(GraphSnapshot graph, int[] order, int count, int[] parentConnection) {
+        int roots = 0;
+        for (int i = 0; i < count; i++) {
+            if (parentConnection[order[i]] < 0) roots++;
+        }
+
+        // Caso comum, uma única raiz em order[0]: acesso direto por índice
+        if (roots == 1 && parentConnection[order[0]] < 0) {
+            return new AbstractList<>() {
+                @Override
+                public Connection get(int index) {
+                    if (index < 0 || index >= count - 1) throw new IndexOutOfBoundsException(index);
+                    return graph.getConnection(parentConnection[order[index + 1]]);
+                }
+
+                @Override
+                public int size() {
+                    return count - 1;
+                }
+            };
+        }
+
+        int[] edges = new int[count - roots];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            int connection = parentConnection[order[i]];
+            if (connection >= 0) edges[size++] = connection;
+        }
+        return new AbstractList<>() {
+            @Override
+            public Connection get(int index) {
+                return graph.getConnection(edges[index]);
+            }
+
+            @Override
+            public int size() {
+                return edges.length;
+            }
+        };
+    }
+
+    static Map<Vertex, Integer> values(GraphSnapshot graph, int[] order, int count, int[] marker, int[] values) {
+        return new VertexMap<>(graph, order, count, marker) {
+            @Override
+            Integer valueOf(int v) {
+                return values[v];
+            }
+        };
+    }
+
+    /**
+     * Pais de cada vértice visitado. Com includeRoots as raízes aparecem com pai null;
+     * sem ele ficam de fora do mapa.
+     */
+    static Map<Vertex, Vertex> parents(GraphSnapshot graph, int[] order, int count, int[] marker,
+                                       int[] parentConnection, boolean includeRoots) {
+        return new VertexMap<>(graph, order, count, marker) {
+            @Override
+            Vertex valueOf(int v) {
+                int connection = parentConnection[v];
+                return connection >= 0 ? graph.getVertex(otherEndpoint(graph, connection, v)) : null;
+            }
+
+            @Override
+            boolean includes(int v) {
+                return includeRoots || parentConnection[v] >= 0;
+            }
+        };
+    }
+
+    static int otherEndpoint(GraphSnapshot graph, int connection, int v) {
+        return graph.getConnectionTarget(connection) == v
+                ? graph.getConnectionSource(connection)
+                : graph.getConnectionTarget(connection);
+    }
+
+    // Id do vértice se ele foi visitado, senão -1
+    static int idOf(GraphSnapshot graph, int[] marker, Object o) {
+        if (!(o instanceof Vertex vertex)) return -1;
+        int v = graph.indexOf(vertex);
+        return v >= 0 && marker[v] >= 0 ? v : -1;
+    }
+
+    // Mapa de vértice visitado para um valor calculado a partir do seu id
+    private abstract static class VertexMap<V> extends AbstractMap<Vertex, V> {
+        private final GraphSnapshot graph;
+        private final int[] order;
+        private final int count;
+        private final int[] marker;
+        private Set<Entry<Vertex, V>> entries;
+        private int size = -1;
+
+        VertexMap(GraphSnapshot graph, int[] order, int count, int[] marker) {
+            this.graph = graph;
+            this.order = order;
+            this.count = count;
+            this.marker = marker;
+        }
+
+        abstract V valueOf(int v);
+
+        boolean includes(int v) {
+            return true;
+        }
+
+        private int keyId(Object key) {
+            int v = idOf(graph, marker, key);
+            return v >= 0 && includes(v) ? v : -1;
+        }
+
+        @Override
+        public V get(Object key) {
+            int v = keyId(key);
+            return v >= 0 ? valueOf(v) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return keyId(key) >= 0;
+        }
+
+        @Override
+        public Set<Entry<Vertex, V>> entrySet() {
+            if (entries == null) {
+                entries = new AbstractSet<>() {
+                    @Override
+                    public Iterator<Entry<Vertex, V>> iterator() {
+                        return new Iterator<>() {
+                            private int next = advance(0);
+
+                            private int advance(int i) {
+                                while (i < count && !includes(order[i])) i++;
+                                return i;
+                            }
+
+                            @Override
+                            public boolean hasNext() {
+                                return next < count;
+                            }
+
+                            @Override
+                            public Entry<Vertex, V> next() {
+                                if (next >= count) throw new NoSuchElementException();
+                                int v = order[next];
+                                next = advance(next + 1);
+                                return new SimpleImmutableEntry<>(graph.getVertex(v), valueOf(v));
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        if (size < 0) {
+                            int included = 0;
+                            for (int i = 0; i < count; i++) {
+                                if (includes(order[i])) included++;
+                            }
+                            size = included;
+                        }
+                        return size;
+                    }
+                };
+            }
+            return entries;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Estrutura union-find (conjuntos disjuntos) sobre ids inteiros, com compressão de
+ * caminho e união por posto. Cada operação custa O(α(n)) amortizado.
+ */
+public class UnionFind {
+    private int[] parent;
+    private byte[] rank;
+    private int size;
+    private int componentCount;
+
+    public UnionFind(int size) {
+        parent = new int[Math.max(size, 16)];
+        rank = new byte[parent.length];
+        for (int i = 0; i < size; i++) {
+            parent[i] = i;
+        }
+        this.size = size;
+        componentCount = size;
+    }
+
+    /** Cria um novo conjunto unitário e devolve o seu id. */
+    public int makeSet() {
+        if (size == parent.length) {
+            parent = Arrays.copyOf(parent, size * 2);
+            rank = Arrays.copyOf(rank, size * 2);
+        }
+        parent[size] = size;
+        rank[size] = 0;
+        componentCount++;
+        return size++;
+    }
+
+    public int find(int x) {
+        int root = x;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        // Compressão de caminho: todos os nós percorridos passam a apontar para a raiz
+        while (parent[x] != root) {
+            int next = parent[x];
+            parent[x] = root;
+            x = next;
+        }
+        return root;
+    }
+
+    public boolean union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return false;
+        }
+
+        if (rank[rootA] < rank[rootB]) {
+            parent[rootA] = rootB;
+        } else if (rank[rootA] > rank[rootB]) {
+            parent[rootB] = rootA;
+        } else {
+            parent[rootB] = rootA;
+            rank[rootA]++;
+        }
+        componentCount--;
+        return true;
+    }
+
+    public boolean connected(int a, int b) {
+        return find(a) == find(b);
+    }
+
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    public int size() {
+        return size;
+    }
+}
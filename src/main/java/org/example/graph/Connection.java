@@ -1,6 +1,7 @@
 package org.example.graph;
 
 import java.awt.*;
+import java.util.function.Consumer;
 
 public abstract class Connection {
     protected String id;
@@ -8,6 +9,8 @@ public abstract class Connection {
     protected Vertex source;
     protected Vertex target;
     protected boolean selected = false;
+    // Avisado sempre que o peso muda (ex.: AGM dinâmica do painel)
+    private Consumer<Connection> weightListener;
 
     public Connection(String id, Vertex source, Vertex target, double weight) {
         this.id = id;
@@ -23,8 +26,15 @@ public abstract class Connection {
     public boolean isSelected() { return selected; }
 
     public void setId(String id) { this.id = id; }
-    public void setWeight(double weight) { this.weight = weight; }
+    public void setWeight(double weight) {
+        if (this.weight == weight) return;
+        this.weight = weight;
+        if (weightListener != null) {
+            weightListener.accept(this);
+        }
+    }
     public void setSelected(boolean selected) { this.selected = selected; }
+    public void setWeightListener(Consumer<Connection> weightListener) { this.weightListener = weightListener; }
 
     public Vertex[] getEndpoints() {
         return new Vertex[]{source, target};
@@ -0,0 +1,218 @@
+package org.example.graph;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fotografia imutável do grafo em formato CSR (compressed sparse row).
+ *
+ * Cada vértice recebe um id inteiro denso (a sua posição na lista de vértices) e as
+ * adjacências ficam em vetores primitivos: os arcos que saem de v ocupam as posições
+ * [outBegin(v), outEnd(v)) e os que chegam em v ocupam [inBegin(v), inEnd(v)).
+ * Arestas (não dirigidas) aparecem nos dois sentidos. Quando o grafo não possui arcos,
+ * a adjacência de entrada é a mesma de saída e os vetores são compartilhados.
+ */
+public final class GraphSnapshot {
+    private final Vertex[] vertices;
+    private final Map<Vertex, Integer> vertexIds;
+
+    private final Connection[] connections;
+    private final int[] connectionSources;
+    private final int[] connectionTargets;
+    private final double[] connectionWeights;
+    private final boolean directed;
+
+    private final int[] outOffsets;
+    private final int[] outTargets;
+    private final double[] outWeights;
+    private final int[] outConnections;
+
+    private final int[] inOffsets;
+    private final int[] inSources;
+    private final double[] inWeights;
+    private final int[] inConnections;
+
+    private GraphSnapshot(List<Vertex> vertexList, List<Connection> connectionList) {
+        int n = vertexList.size();
+        vertices = vertexList.toArray(new Vertex[0]);
+        vertexIds = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            vertexIds.put(vertices[i], i);
+        }
+
+        // Descarta ligações cujos extremos não pertencem à lista de vértices
+        int m = 0;
+        Connection[] accepted = new Connection[connectionList.size()];
+        for (Connection connection : connectionList) {
+            if (vertexIds.containsKey(connection.getSource()) && vertexIds.containsKey(connection.getTarget())) {
+                accepted[m++] = connection;
+            }
+        }
+
+        connections = new Connection[m];
+        connectionSources = new int[m];
+        connectionTargets = new int[m];
+        connectionWeights = new double[m];
+
+        boolean hasArcs = false;
+        int[] outDegree = new int[n];
+        int[] inDegree = new int[n];
+        for (int c = 0; c < m; c++) {
+            Connection connection = accepted[c];
+            int s = vertexIds.get(connection.getSource());
+            int t = vertexIds.get(connection.getTarget());
+            connections[c] = connection;
+            connectionSources[c] = s;
+            connectionTargets[c] = t;
+            connectionWeights[c] = connection.getWeight();
+
+            outDegree[s]++;
+            inDegree[t]++;
+            if (connection.isDirected()) {
+                hasArcs = true;
+            } else {
+                outDegree[t]++;
+                inDegree[s]++;
+            }
+        }
+        directed = hasArcs;
+
+        outOffsets = prefixSums(outDegree);
+        int arcCount = outOffsets[n];
+        outTargets = new int[arcCount];
+        outWeights = new double[arcCount];
+        outConnections = new int[arcCount];
+
+        if (directed) {
+            inOffsets = prefixSums(inDegree);
+            inSources = new int[arcCount];
+            inWeights = new double[arcCount];
+            inConnections = new int[arcCount];
+        } else {
+            inOffsets = outOffsets;
+            inSources = outTargets;
+            inWeights = outWeights;
+            inConnections = outConnections;
+        }
+
+        // Preenchimento na ordem da lista de ligações, mantendo a ordem original em cada vértice
+        int[] outNext = new int[n];
+        int[] inNext = new int[n];
+        for (int c = 0; c < m; c++) {
+            int s = connectionSources[c];
+            int t = connectionTargets[c];
+            double w = connectionWeights[c];
+
+            putOut(s, t, w, c, outNext);
+            if (directed) {
+                putIn(t, s, w, c, inNext);
+            }
+            if (!connections[c].isDirected()) {
+                putOut(t, s, w, c, outNext);
+                if (directed) {
+                    putIn(s, t, w, c, inNext);
+                }
+            }
+        }
+    }
+
+    public static GraphSnapshot of(List<Vertex> vertexList, List<Connection> connectionList) {
+        return new GraphSnapshot(vertexList, connectionList);
+    }
+
+    private static int[] prefixSums(int[] degree) {
+        int[] offsets = new int[degree.length + 1];
+        for (int i = 0; i < degree.length; i++) {
+            offsets[i + 1] = offsets[i] + degree[i];
+        }
+        return offsets;
+    }
+
+    private void putOut(int from, int to, double weight, int connection, int[] next) {
+        int slot = outOffsets[from] + next[from]++;
+        outTargets[slot] = to;
+        outWeights[slot] = weight;
+        outConnections[slot] = connection;
+    }
+
+    private void putIn(int to, int from, double weight, int connection, int[] next) {
+        int slot = inOffsets[to] + next[to]++;
+        inSources[slot] = from;
+        inWeights[slot] = weight;
+        inConnections[slot] = connection;
+    }
+
+    // --- Vértices -----------------------------------------------------
+
+    public int getVertexCount() { return vertices.length; }
+
+    public Vertex getVertex(int id) { return vertices[id]; }
+
+    public int indexOf(Vertex vertex) {
+        Integer id = vertexIds.get(vertex);
+        return id != null ? id : -1;
+    }
+
+    // --- Ligações -----------------------------------------------------
+
+    public int getConnectionCount() { return connections.length; }
+
+    public Connection getConnection(int id) { return connections[id]; }
+
+    public int getConnectionSource(int id) { return connectionSources[id]; }
+
+    public int getConnectionTarget(int id) { return connectionTargets[id]; }
+
+    public double getConnectionWeight(int id) { return connectionWeights[id]; }
+
+    public boolean isConnectionDirected(int id) { return connections[id].isDirected(); }
+
+    /** Verdadeiro se existe ao menos um arco; caso contrário a adjacência é simétrica. */
+    public boolean isDirected() { return directed; }
+
+    /**
+     * Impressão digital (FNV-1a) do número de vértices e das ligações: extremos, peso e
+     * sentido. Estruturas pré-processadas a guardam para saber se ainda valem para o grafo.
+     */
+    public long fingerprint() {
+        long hash = 0xcbf29ce484222325L ^ vertices.length;
+        for (int c = 0; c < connections.length; c++) {
+            hash = (hash ^ connectionSources[c]) * 0x100000001b3L;
+            hash = (hash ^ connectionTargets[c]) * 0x100000001b3L;
+            hash = (hash ^ Double.doubleToLongBits(connectionWeights[c])) * 0x100000001b3L;
+            hash = (hash ^ (connections[c].isDirected() ? 1 : 0)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // --- Adjacência de saída ------------------------------------------
+
+    public int getArcCount() { return outTargets.length; }
+
+    public int outBegin(int vertex) { return outOffsets[vertex]; }
+
+    public int outEnd(int vertex) { return outOffsets[vertex + 1]; }
+
+    public int outDegree(int vertex) { return outOffsets[vertex + 1] - outOffsets[vertex]; }
+
+    public int outTarget(int arc) { return outTargets[arc]; }
+
+    public double outWeight(int arc) { return outWeights[arc]; }
+
+    public int outConnection(int arc) { return outConnections[arc]; }
+
+    // --- Adjacência de entrada ----------------------------------------
+
+    public int inBegin(int vertex) { return inOffsets[vertex]; }
+
+    public int inEnd(int vertex) { return inOffsets[vertex + 1]; }
+
+    public int inDegree(int vertex) { return inOffsets[vertex + 1] - inOffsets[vertex]; }
+
+    public int inSource(int arc) { return inSources[arc]; }
+
+    public double inWeight(int arc) { return inWeights[arc]; }
+
+    public int inConnection(int arc) { return inConnections[arc]; }
+}
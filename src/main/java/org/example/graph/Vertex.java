@@ -1,6 +1,7 @@
 package org.example.graph;
 
 import java.awt.*;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -8,6 +9,22 @@ public class Vertex {
     private List<Vertex> neighbours;
     private String id;
 
+    // Listas de incidência: ligações que saem deste vértice e ligações que chegam nele
+    private final List<Connection> outgoingConnections = new ArrayList<>();
+    private final List<Connection> incomingConnections = new ArrayList<>();
+    private final List<Connection> incidentConnections = new AbstractList<>() {
+        @Override
+        public Connection get(int index) {
+            int outgoingCount = outgoingConnections.size();
+            return index < outgoingCount ? outgoingConnections.get(index) : incomingConnections.get(index - outgoingCount);
+        }
+
+        @Override
+        public int size() {
+            return outgoingConnections.size() + incomingConnections.size();
+        }
+    };
+
     private int x,y;
     private boolean selected = false;
     public int radiusw = 25, radiush=25;
@@ -50,6 +67,26 @@ public class Vertex {
 
     public void addNeighbour(Vertex neighbour) { neighbours.add(neighbour); }
 
+    public List<Connection> getOutgoingConnections() { return outgoingConnections; }
+
+    public List<Connection> getIncomingConnections() { return incomingConnections; }
+
+    // Visão (sem cópia) das ligações de saída seguidas das de entrada
+    public List<Connection> getIncidentConnections() { return incidentConnections; }
+
+    public void addOutgoingConnection(Connection connection) { outgoingConnections.add(connection); }
+
+    public void addIncomingConnection(Connection connection) { incomingConnections.add(connection); }
+
+    public void removeOutgoingConnection(Connection connection) { outgoingConnections.remove(connection); }
+
+    public void removeIncomingConnection(Connection connection) { incomingConnections.remove(connection); }
+
+    public void clearConnections() {
+        outgoingConnections.clear();
+        incomingConnections.clear();
+    }
+
     public int getX() { return x; }
 
     public int getY() { return y; }
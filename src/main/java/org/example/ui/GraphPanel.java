@@ -13,6 +13,7 @@ import org.example.algorithms.*;
 import org.example.graph.Arc;
 import org.example.graph.Connection;
 import org.example.graph.Edge;
+import org.example.graph.GraphSnapshot;
 import org.example.graph.Vertex;
 
 
@@ -20,6 +21,10 @@ public class GraphPanel extends JPanel {
 
     private final List<Vertex> vertexList = new ArrayList<>();
     private final List<Connection> connectionList = new ArrayList<>();
+    private final Map<String, Vertex> vertexIndex = new HashMap<>();
+    // Índice (origem -> destino -> ligação), na orientação em que cada ligação foi criada
+    private final Map<Vertex, Map<Vertex, Connection>> connectionIndex = new HashMap<>();
+    private final IncrementalConnectivity connectivity = new IncrementalConnectivity(vertexList, connectionList);
 
     public enum ToolMode { ADD_NODE, REMOVE, CONNECT, DISCONNECT }
     public enum GraphType {DIRECTED, UNDIRECTED}
@@ -29,9 +34,12 @@ public class GraphPanel extends JPanel {
     private int nextVertexIdCounter = 1;
     private int nextConnectionIdCounter = 1;
 
-    private List<Connection> mstEdges = new ArrayList<>();
+    private Set<Connection> mstEdges = new LinkedHashSet<>();
     private boolean showMST = false;
     private double mstTotalWeight = 0.0;
+    private int mstTreeCount = 0;
+    // Mantém a AGM exibida atualizada a cada edição, sem rodar o Prim de novo
+    private DynamicMST dynamicMST = null;
 
     private List<Connection> bfsTreeEdges = new ArrayList<>();
     private List<Vertex> bfsVisitOrder = new ArrayList<>();
@@ -57,6 +65,11 @@ public class GraphPanel extends JPanel {
     private boolean showAStarPath = false;
     private List<Connection> aStarPathConnections = new ArrayList<>();
     private double aStarPathTotalWeight = 0.0;
+    // Marcos ALT do grafo atual (null = A* só com a heurística das coordenadas)
+    private Landmarks landmarks = null;
+    // Hierarquia de contração do grafo atual; descartada a cada edição, pois guarda os
+    // objetos Vertex e Connection do snapshot em que foi construída
+    private ContractionHierarchy contractionHierarchy = null;
 
     private boolean showPCVPath = false;
     private List<Connection> pcvPathConnections = new ArrayList<>();
@@ -92,13 +105,9 @@ public class GraphPanel extends JPanel {
             }else if (vertexName.length()>10 || vertexName.isEmpty()) {
                 JOptionPane.showMessageDialog(this, "Nome do vértice deve possuir até 10 caracteres", "Nome Inválido", JOptionPane.ERROR_MESSAGE);
                 validName = false;
-            }else{
-                for (Vertex v : vertexList) {
-                    if(v.getId().equals(vertexName)) {
-                        JOptionPane.showMessageDialog(this, "Já existe um vértice chamado: "+vertexName+"\nPor favor escolha outro nome.", "Vértice já existe", JOptionPane.ERROR_MESSAGE);
-                        validName = false;
-                    }
-                }
+            }else if (vertexIndex.containsKey(vertexName)) {
+                JOptionPane.showMessageDialog(this, "Já existe um vértice chamado: "+vertexName+"\nPor favor escolha outro nome.", "Vértice já existe", JOptionPane.ERROR_MESSAGE);
+                validName = false;
             }
         }while (!validName);
 
@@ -148,22 +157,65 @@ public class GraphPanel extends JPanel {
                 }
             }
 
-            this.vertexList.add(newVertex);
+            addVertex(newVertex);
         }
     }
 
+    public boolean addVertex(Vertex vertex) {
+        if (vertex == null || vertexIndex.containsKey(vertex.getId())) return false;
+
+        vertexList.add(vertex);
+        vertexIndex.put(vertex.getId(), vertex);
+        connectivity.vertexAdded(vertex);
+        contractionHierarchy = null;
+        if (dynamicMST != null) {
+            dynamicMST.vertexAdded(vertex);
+            syncDynamicMST();
+        }
+        return true;
+    }
+
+    public Vertex findVertexById(String id) {
+        return id != null ? vertexIndex.get(id) : null;
+    }
 
     public boolean removeVertex(Vertex vertex) {
         if (vertex == null) return false;
 
+        if (dynamicMST != null && vertexIndex.get(vertex.getId()) == vertex) {
+            dynamicMST.vertexRemoved(vertex);
+            syncDynamicMST();
+        }
+
         connectionList.removeIf(connection ->
                 connection.getSource().equals(vertex) || connection.getTarget().equals(vertex));
 
-        for (Vertex v : vertexList) {
-            v.getNeighbours().remove(vertex);
+        // Desliga as ligações do vértice removido das listas de incidência dos vizinhos
+        connectionIndex.remove(vertex);
+        for (Connection connection : vertex.getOutgoingConnections()) {
+            Vertex target = connection.getTarget();
+            if (target != vertex) {
+                target.removeIncomingConnection(connection);
+                target.getNeighbours().remove(vertex);
+            }
         }
+        for (Connection connection : vertex.getIncomingConnections()) {
+            Vertex source = connection.getSource();
+            if (source != vertex) {
+                unindexConnection(connection);
+                source.removeOutgoingConnection(connection);
+                source.getNeighbours().remove(vertex);
+            }
+        }
+        vertex.clearConnections();
+        vertex.getNeighbours().clear();
 
         boolean removed = vertexList.remove(vertex);
+        vertexIndex.remove(vertex.getId(), vertex);
+        if (removed) {
+            connectivity.vertexRemoved(vertex);
+            contractionHierarchy = null;
+        }
 
         if (selectedNode == vertex) {
             selectedNode = null;
@@ -198,6 +250,16 @@ public class GraphPanel extends JPanel {
         }
 
         connectionList.add(newConnection);
+        indexConnection(newConnection);
+        source.addOutgoingConnection(newConnection);
+        target.addIncomingConnection(newConnection);
+        connectivity.connectionAdded(newConnection);
+        contractionHierarchy = null;
+        newConnection.setWeightListener(this::connectionWeightChanged);
+        if (dynamicMST != null) {
+            dynamicMST.connectionAdded(newConnection);
+            syncDynamicMST();
+        }
 
         source.addNeighbour(target);
         if (currentGraphType == GraphType.UNDIRECTED) {
@@ -213,6 +275,16 @@ public class GraphPanel extends JPanel {
         boolean removed = connectionList.remove(connection);
 
         if (removed) {
+            unindexConnection(connection);
+            connectivity.connectionRemoved(connection);
+            contractionHierarchy = null;
+            connection.setWeightListener(null);
+            if (dynamicMST != null) {
+                dynamicMST.connectionRemoved(connection);
+                syncDynamicMST();
+            }
+            connection.getSource().removeOutgoingConnection(connection);
+            connection.getTarget().removeIncomingConnection(connection);
             connection.getSource().getNeighbours().remove(connection.getTarget());
             if (currentGraphType == GraphType.UNDIRECTED) {
                 connection.getTarget().getNeighbours().remove(connection.getSource());
@@ -222,11 +294,49 @@ public class GraphPanel extends JPanel {
         return removed;
     }
 
+    private void connectionWeightChanged(Connection connection) {
+        contractionHierarchy = null;
+        if (dynamicMST != null) {
+            dynamicMST.weightChanged(connection);
+            syncDynamicMST();
+            repaint();
+        }
+    }
+
+    private void indexConnection(Connection connection) {
+        connectionIndex.computeIfAbsent(connection.getSource(), k -> new HashMap<>())
+                .put(connection.getTarget(), connection);
+    }
+
+    private void unindexConnection(Connection connection) {
+        Map<Vertex, Connection> targets = connectionIndex.get(connection.getSource());
+        if (targets != null) {
+            targets.remove(connection.getTarget(), connection);
+            if (targets.isEmpty()) {
+                connectionIndex.remove(connection.getSource());
+            }
+        }
+    }
+
+    private Connection lookupConnection(Vertex source, Vertex target) {
+        Map<Vertex, Connection> targets = connectionIndex.get(source);
+        return targets != null ? targets.get(target) : null;
+    }
+
     public boolean removeConnectionBetween(Vertex v1, Vertex v2) {
         Connection connection = findConnectionBetween(v1, v2);
         return removeConnection(connection);
     }
 
+    // Conectividade ignorando a orientação, mantida incrementalmente a cada edição
+    public boolean areConnected(Vertex v1, Vertex v2) {
+        return connectivity.areConnected(v1, v2);
+    }
+
+    public int getComponentCount() {
+        return connectivity.getComponentCount();
+    }
+
     public boolean areAdjacent(Vertex v1, Vertex v2) {
         if (v1 == null || v2 == null) return false;
         return v1.getNeighbours().contains(v2);
@@ -285,15 +395,9 @@ public class GraphPanel extends JPanel {
             return;
         }
 
-        Vertex vertex1 = vertexList.stream()
-                .filter(v -> v.getId().equals(vertex1Id))
-                .findFirst()
-                .orElse(null);
+        Vertex vertex1 = findVertexById(vertex1Id);
 
-        Vertex vertex2 = vertexList.stream()
-                .filter(v -> v.getId().equals(vertex2Id))
-                .findFirst()
-                .orElse(null);
+        Vertex vertex2 = findVertexById(vertex2Id);
 
         if (vertex1 == null || vertex2 == null) {
             JOptionPane.showMessageDialog(
@@ -368,21 +472,17 @@ public class GraphPanel extends JPanel {
     }
 
     public boolean hasDirectedConnectionBetween(Vertex source, Vertex target) {
-        for (Connection connection : connectionList) {
-            if (connection.getSource().equals(source) && connection.getTarget().equals(target)) {
-                return true;
-            }
-        }
-        return false;
+        return lookupConnection(source, target) != null;
     }
 
     public Connection findConnectionBetween(Vertex v1, Vertex v2) {
-        for (Connection connection : connectionList) {
-            if (connection.connects(v1, v2)) {
-                return connection;
-            }
+        // Arcos só ligam v1 -> v2; arestas também valem no sentido inverso (ver Arc/Edge.connects)
+        Connection connection = lookupConnection(v1, v2);
+        if (connection != null) {
+            return connection;
         }
-        return null;
+        connection = lookupConnection(v2, v1);
+        return connection != null && !connection.isDirected() ? connection : null;
     }
 
     public double getConnectionWeight(Connection connection) {
@@ -573,14 +673,9 @@ public class GraphPanel extends JPanel {
             return null;
         }
 
-        if (!Prim.isConnected(vertexList, connectionList)) {
-            JOptionPane.showMessageDialog(
-                    this,
-                    "O grafo não é conexo! O algoritmo de Prim requer um grafo conexo.",
-                    "Erro - Algoritmo de Prim",
-                    JOptionPane.ERROR_MESSAGE
-            );
-            return null;
+        // Grafo desconexo: calcula a floresta geradora mínima, uma árvore por componente
+        if (!connectivity.isConnected()) {
+            return applyPrimForest();
         }
 
         String[] vertexIds = vertexList.stream()
@@ -601,10 +696,7 @@ public class GraphPanel extends JPanel {
             return null;
         }
 
-        Vertex startVertex = vertexList.stream()
-                .filter(v -> v.getId().equals(startVertexId))
-                .findFirst()
-                .orElse(null);
+        Vertex startVertex = findVertexById(startVertexId);
 
         if (startVertex == null) {
             JOptionPane.showMessageDialog(
@@ -616,14 +708,12 @@ public class GraphPanel extends JPanel {
             return null;
         }
 
-        Prim.PrimResult result = Prim.findMinimumSpanningTree(vertexList, connectionList, startVertex);
+        Prim.PrimResult result = Prim.findMinimumSpanningTree(GraphSnapshot.of(vertexList, connectionList), startVertex);
 
         if (result != null) {
-            mstEdges = result.getMstEdges();
-            mstTotalWeight = result.getTotalWeight();
-            showMST = true;
+            startDynamicMST(result);
 
-            String edgesList = mstEdges.stream()
+            String edgesList = result.getMstEdges().stream()
                     .map(c -> String.format("%s (%.2f)", c.getId(), c.getWeight()))
                     .reduce((a, b) -> a + ", " + b)
                     .orElse("");
@@ -659,10 +749,71 @@ public class GraphPanel extends JPanel {
         return null;
     }
 
+    private List<Connection> applyPrimForest() {
+        Prim.PrimResult result = Prim.findMinimumSpanningForest(GraphSnapshot.of(vertexList, connectionList));
+        if (result == null) {
+            return null;
+        }
+
+        startDynamicMST(result);
+
+        StringBuilder trees = new StringBuilder();
+        for (int i = 0; i < result.getTreeCount(); i++) {
+            List<Connection> treeEdges = result.getTreeEdges(i);
+            String edgesList = treeEdges.stream()
+                    .map(c -> String.format("%s (%.2f)", c.getId(), c.getWeight()))
+                    .reduce((a, b) -> a + ", " + b)
+                    .orElse("(vértice isolado)");
+            trees.append(String.format("Árvore %d: %d arestas, peso %.2f\n   %s\n",
+                    i + 1, treeEdges.size(), result.getTreeWeight(i), edgesList));
+        }
+
+        String message = String.format(
+                "O grafo não é conexo: foi calculada a Floresta Geradora Mínima.\n\n" +
+                        "Número de árvores (componentes): %d\n" +
+                        "Número total de arestas: %d\n" +
+                        "Peso total da floresta: %.2f\n\n" +
+                        "%s\n" +
+                        "As árvores serão destacadas em verde no grafo.",
+                result.getTreeCount(),
+                result.getEdgeCount(),
+                result.getTotalWeight(),
+                trees
+        );
+
+        JOptionPane.showMessageDialog(
+                this,
+                message,
+                "Algoritmo de Prim - Floresta Geradora Mínima",
+                JOptionPane.INFORMATION_MESSAGE
+        );
+
+        repaint();
+
+        System.out.printf("Prim executado com sucesso. Floresta com %d árvores, %d arestas, peso total: %.2f%n",
+                result.getTreeCount(), result.getEdgeCount(), result.getTotalWeight());
+
+        return result.getMstEdges();
+    }
+
+    private void startDynamicMST(Prim.PrimResult result) {
+        dynamicMST = new DynamicMST(vertexList, connectionList, result.getMstEdges());
+        syncDynamicMST();
+        showMST = true;
+    }
+
+    private void syncDynamicMST() {
+        mstEdges = dynamicMST.getTreeEdges();
+        mstTotalWeight = dynamicMST.getTotalWeight();
+        mstTreeCount = dynamicMST.getTreeCount();
+    }
+
     public void clearMST() {
-        mstEdges.clear();
+        dynamicMST = null;
+        mstEdges = new LinkedHashSet<>();
         showMST = false;
         mstTotalWeight = 0.0;
+        mstTreeCount = 0;
         repaint();
     }
 
@@ -704,10 +855,7 @@ public class GraphPanel extends JPanel {
             return null;
         }
 
-        Vertex startVertex = vertexList.stream()
-                .filter(v -> v.getId().equals(startVertexId))
-                .findFirst()
-                .orElse(null);
+        Vertex startVertex = findVertexById(startVertexId);
 
         if (startVertex == null) {
             JOptionPane.showMessageDialog(
@@ -719,7 +867,8 @@ public class GraphPanel extends JPanel {
             return null;
         }
 
-        BreadthFirstSearch.BFSResult result = BreadthFirstSearch.performBFS(vertexList, connectionList, startVertex);
+        BreadthFirstSearch.BFSResult result = DirectionOptimizingBFS.performBFS(
+                GraphSnapshot.of(vertexList, connectionList), startVertex);
 
         if (result != null) {
             bfsTreeEdges = result.getTreeEdges();
@@ -774,9 +923,10 @@ public class GraphPanel extends JPanel {
     }
 
     public void clearBFS() {
-        bfsTreeEdges.clear();
-        bfsVisitOrder.clear();
-        bfsDistances.clear();
+        // Os resultados são visões somente leitura: troca por coleções vazias em vez de limpar
+        bfsTreeEdges = new ArrayList<>();
+        bfsVisitOrder = new ArrayList<>();
+        bfsDistances = new HashMap<>();
         showBFS = false;
         bfsStartVertex = null;
         repaint();
@@ -807,24 +957,31 @@ public class GraphPanel extends JPanel {
         String analysisTitle;
         String analysisDescription;
 
+        componentMap.clear();
+
         if (currentGraphType == GraphType.UNDIRECTED) {
             analysisTitle = "Componentes Conexos (CC)";
             analysisDescription = String.format("Análise de Componentes Conexos (Grafo Não Direcionado) concluída.\n");
-            components = BreadthFirstSearch.findConnectedComponents(vertexList, connectionList);
+
+            // A estrutura de conectividade já está mantida; só rotula direto no componentMap
+            numberOfComponents = connectivity.labelComponents(componentMap);
+            components = new ArrayList<>(numberOfComponents);
+            for (int i = 0; i < numberOfComponents; i++) {
+                components.add(new ArrayList<>());
+            }
+            for (Vertex vertex : vertexList) {
+                components.get(componentMap.get(vertex)).add(vertex);
+            }
         } else {
             analysisTitle = "Componentes Fortemente Conexos (SCC)";
             analysisDescription = String.format("Análise de Componentes Fortemente Conexos (Grafo Direcionado) concluída.\n");
-            components = KosarajuSCC.findSCCs(vertexList, connectionList);
-        }
+            TarjanSCC.SCCResult scc = TarjanSCC.findSCCs(GraphSnapshot.of(vertexList, connectionList));
+            components = scc.getComponents();
 
-        componentMap.clear();
-        numberOfComponents = components.size();
-        int componentId = 0;
-        for (List<Vertex> component : components) {
-            for (Vertex vertex : component) {
-                componentMap.put(vertex, componentId);
+            numberOfComponents = scc.getComponentCount();
+            for (int v = 0; v < vertexList.size(); v++) {
+                componentMap.put(vertexList.get(v), scc.getComponentOf(v));
             }
-            componentId++;
         }
 
         showComponents = true;
@@ -886,10 +1043,7 @@ public class GraphPanel extends JPanel {
             return null;
         }
 
-        Vertex startVertex = vertexList.stream()
-                .filter(v -> v.getId().equals(startVertexId))
-                .findFirst()
-                .orElse(null);
+        Vertex startVertex = findVertexById(startVertexId);
 
         if (startVertex == null) {
             JOptionPane.showMessageDialog(
@@ -957,10 +1111,10 @@ public class GraphPanel extends JPanel {
     }
 
     public void clearDFS() {
-        dfsTreeEdges.clear();
-        dfsVisitOrder.clear();
-        dfsDiscoveryTimes.clear();
-        dfsFinishTimes.clear();
+        dfsTreeEdges = new ArrayList<>();
+        dfsVisitOrder = new ArrayList<>();
+        dfsDiscoveryTimes = new HashMap<>();
+        dfsFinishTimes = new HashMap<>();
         showDFS = false;
         dfsStartVertex = null;
         repaint();
@@ -1279,8 +1433,11 @@ public class GraphPanel extends JPanel {
         g2d.setColor(new Color(0, 100, 0));
         g2d.setFont(new Font("Arial", Font.BOLD, 14));
 
-        String mstInfo = String.format("AGM: %d arestas, Peso total: %.2f",
-                mstEdges.size(), mstTotalWeight);
+        String mstInfo = mstTreeCount > 1
+                ? String.format("Floresta: %d árvores, %d arestas, Peso total: %.2f",
+                        mstTreeCount, mstEdges.size(), mstTotalWeight)
+                : String.format("AGM: %d arestas, Peso total: %.2f",
+                        mstEdges.size(), mstTotalWeight);
         g2d.drawString(mstInfo, 10, getHeight() - 10);
     }
 
@@ -1508,17 +1665,18 @@ public class GraphPanel extends JPanel {
     }
 
 
-    public List<Vertex> getVertexList() { return vertexList; }
+    // Somente leitura: inclusões e remoções passam por addVertex/removeVertex para manter o índice por id
+    public List<Vertex> getVertexList() { return Collections.unmodifiableList(vertexList); }
     public List<Connection> getConnectionList() { return new ArrayList<>(connectionList); }
     public GraphType getGraphType() { return currentGraphType; }
 
     public void setGraphType(GraphType graphType) {
         currentGraphType = graphType;
         ui.getToolbar().setOrientationButton(currentGraphType);
+        clearMST();
         convertExistingConnections();
         clearBFS();
         clearComponents();
-        clearMST();
         clearDFS();
         repaint();
     }
@@ -1533,9 +1691,11 @@ public class GraphPanel extends JPanel {
     private void convertExistingConnections() {
         List<Connection> oldConnections = new ArrayList<>(connectionList);
         connectionList.clear();
+        connectionIndex.clear();
 
         for (Vertex vertex : vertexList) {
             vertex.getNeighbours().clear();
+            vertex.clearConnections();
         }
 
         for (Connection oldConnection : oldConnections) {
@@ -1552,10 +1712,16 @@ public class GraphPanel extends JPanel {
 
         for (Vertex vertex : vertexList) {
             vertex.getNeighbours().clear();
+            vertex.clearConnections();
         }
 
         this.vertexList.clear();
+        this.vertexIndex.clear();
         this.connectionList.clear();
+        this.connectionIndex.clear();
+        this.connectivity.clear();
+        this.landmarks = null;
+        this.contractionHierarchy = null;
 
         this.selectedNode = null;
         this.nextVertexIdCounter = 1;
@@ -1730,12 +1896,9 @@ public class GraphPanel extends JPanel {
 
         // --- 3. Extração dos Dados ---
         String startVertexId = (String) comboStart.getSelectedItem();
-        Vertex startNode = vertexList.get(0); // Define o primeiro como padrão (fallback)
-        for (Vertex v : vertexList) {
-            if (v.getId().equals(startVertexId)) {
-                startNode = v;
-                break;
-            }
+        Vertex startNode = findVertexById(startVertexId);
+        if (startNode == null) {
+            startNode = vertexList.get(0); // Define o primeiro como padrão (fallback)
         }
         int popSize = (int) spinPop.getValue();
         double crossoverRate = (double) spinCross.getValue() / 100.0;
@@ -1979,80 +2142,100 @@ public class GraphPanel extends JPanel {
             return;
         }
 
-        Vertex startNode = vertexList.stream().filter(v -> v.getId().equals(startVertexId)).findFirst().orElse(null);
-        Vertex endNode = vertexList.stream().filter(v -> v.getId().equals(endVertexId)).findFirst().orElse(null);
+        Vertex startNode = findVertexById(startVertexId);
+        Vertex endNode = findVertexById(endVertexId);
 
         // Display h(n) table for the destination
         displayHeuristicTable(endNode);
 
-        // --- 2. Inicialização do A* ---
-        // openSet contém os nós a serem avaliados, priorizados pelo menor fScore
-        Map<Vertex, Double> fScore = new HashMap<>();
-        Map<Vertex, Double> gScore = new HashMap<>();
-        Map<Vertex, Double> hScore = new HashMap<>(); // Store h(n) values
+        // Grafo dirigido e acíclico: relaxa na ordem topológica, em tempo linear e sem heap
+        if (currentGraphType == GraphType.DIRECTED && applyDagShortestPath(startNode, endNode)) {
+            return;
+        }
+
+        // --- 2. Busca pelo motor A* (heap indexado sobre o snapshot) ---
+        // Com marcos ALT válidos para o grafo atual, usa os limites da desigualdade triangular
+        GraphSnapshot graph = GraphSnapshot.of(vertexList, connectionList);
+        PathResult result = landmarks != null && landmarks.matches(graph)
+                ? new AStar(graph, landmarks).findPath(startNode, endNode)
+                : AStar.findPath(graph, startNode, endNode);
+
+        if (result.isFound()) {
+            showAStarPath(result.getConnections(), result.getCost());
+            showAStarResultDialog(startNode, endNode);
+            return;
+        }
 
-        PriorityQueue<Vertex> openSet = new PriorityQueue<>(Comparator.comparingDouble(fScore::get));
+        // Se a busca terminar sem alcançar o destino, não há caminho
+        JOptionPane.showMessageDialog(this, "Não foi possível encontrar um caminho de " + startVertexId + " para " + endVertexId + ".", "Caminho Não Encontrado", JOptionPane.WARNING_MESSAGE);
+    }
 
-        // cameFrom armazena o nó anterior no caminho mais curto
-        Map<Vertex, Vertex> cameFrom = new HashMap<>();
 
-        // gScore é o custo do início até o nó atual
-        for (Vertex v : vertexList) {
-            gScore.put(v, Double.POSITIVE_INFINITY);
-            fScore.put(v, Double.POSITIVE_INFINITY);
-            hScore.put(v, heuristic(v, endNode));
+    /** Escolhe os marcos ALT do grafo atual e calcula as distâncias de/até cada um. */
+    public void computeLandmarks() {
+        if (vertexList.size() < 2) {
+            JOptionPane.showMessageDialog(this, "O grafo precisa de pelo menos dois vértices.", "Erro - ALT", JOptionPane.WARNING_MESSAGE);
+            return;
         }
-        gScore.put(startNode, 0.0);
-        fScore.put(startNode, heuristic(startNode, endNode));
-        openSet.add(startNode);
 
-        // --- 3. Loop Principal do Algoritmo ---
-        while (!openSet.isEmpty()) {
-            Vertex current = openSet.poll(); // Pega o nó com o menor fScore
+        GraphSnapshot graph = GraphSnapshot.of(vertexList, connectionList);
+        long start = System.nanoTime();
+        try {
+            landmarks = Landmarks.compute(graph, Landmarks.DEFAULT_COUNT, Landmarks.Selection.AVOID);
+        } catch (IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(this, e.getMessage(), "Erro - ALT", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
 
-            if (current.equals(endNode)) {
-                // Caminho encontrado!
-                reconstructAStarPath(cameFrom, current, gScore, hScore);
-                showAStarResultDialog(startNode, endNode, gScore, hScore);
-                return;
-            }
+        StringBuilder ids = new StringBuilder();
+        for (int i = 0; i < landmarks.getLandmarkCount(); i++) {
+            if (i > 0) ids.append(", ");
+            ids.append(graph.getVertex(landmarks.getLandmark(i)).getId());
+        }
+        JOptionPane.showMessageDialog(
+                this,
+                "Marcos calculados: " + landmarks.getLandmarkCount() + " (" + elapsedMs + " ms)\n" +
+                        ids + "\n\nO A* passa a usá-los enquanto o grafo não mudar.\n" +
+                        "Ao salvar, eles são gravados num arquivo .alt ao lado do .graph.",
+                "Pré-processamento ALT",
+                JOptionPane.INFORMATION_MESSAGE
+        );
+    }
 
-            for (Vertex neighbor : current.getNeighbours()) {
-                Connection connection = findConnectionBetween(current, neighbor);
-                if (connection == null) continue;
-                double weight = connection.getWeight();
+    public Landmarks getLandmarks() {
+        return landmarks;
+    }
 
-                double tentativeGScore = gScore.get(current) + weight;
+    public void setLandmarks(Landmarks landmarks) {
+        this.landmarks = landmarks;
+    }
 
-                if (tentativeGScore < gScore.get(neighbor)) {
-                    // Este é um caminho melhor para o vizinho. Registre-o.
-                    cameFrom.put(neighbor, current);
-                    gScore.put(neighbor, tentativeGScore);
-                    fScore.put(neighbor, gScore.get(neighbor) + heuristic(neighbor, endNode));
-                    if (!openSet.contains(neighbor)) {
-                        openSet.add(neighbor);
-                    }
-                }
-            }
+
+    // Caminho mínimo por DagShortestPath; false se o grafo tem ciclo e o A* deve seguir
+    private boolean applyDagShortestPath(Vertex startNode, Vertex endNode) {
+        GraphSnapshot graph = GraphSnapshot.of(vertexList, connectionList);
+        int[] order = TopologicalSort.sort(graph);
+        if (order == null) {
+            return false;
         }
 
-        // Se o loop terminar, não há caminho
-        JOptionPane.showMessageDialog(this, "Não foi possível encontrar um caminho de " + startVertexId + " para " + endVertexId + ".", "Caminho Não Encontrado", JOptionPane.WARNING_MESSAGE);
+        int target = graph.indexOf(endNode);
+        DagShortestPath.DagPathResult result = DagShortestPath.shortestPaths(graph, graph.indexOf(startNode), order);
+        if (!result.hasPathTo(target)) {
+            JOptionPane.showMessageDialog(this, "Não foi possível encontrar um caminho de " + startNode.getId() + " para " + endNode.getId() + ".", "Caminho Não Encontrado", JOptionPane.WARNING_MESSAGE);
+            return true;
+        }
+
+        showAStarPath(result.getPathConnections(target), result.getDistance(target));
+        showAStarResultDialog(startNode, endNode);
+        return true;
     }
 
 
-    // Heurística: Distância de Manhattan usando coordenadas geográficas
+    // Heurística: Distância de Manhattan usando coordenadas geográficas (a mesma do motor A*)
     private double heuristic(Vertex a, Vertex b) {
-        if (a.hasGeographicCoordinates() && b.hasGeographicCoordinates()) {
-            // Use Manhattan distance with geographic coordinates
-            // Convert to kilometers (approximation: 1 degree ≈ 111 km)
-            double latDiff = Math.abs(a.getLatitude() - b.getLatitude()) * 111.0;
-            double lonDiff = Math.abs(a.getLongitude() - b.getLongitude()) * 111.0;
-            return latDiff + lonDiff;
-        } else {
-            // Fallback: use screen coordinates
-            return Math.abs(a.getX() - b.getX()) + Math.abs(a.getY() - b.getY());
-        }
+        return AStar.manhattanDistance(a, b);
     }
 
 
@@ -2088,30 +2271,39 @@ public class GraphPanel extends JPanel {
     }
 
 
-    // Reconstrói o caminho e preenche as variáveis de visualização
-    private void reconstructAStarPath(Map<Vertex, Vertex> cameFrom, Vertex current,
-                                      Map<Vertex, Double> gScore, Map<Vertex, Double> hScore) {
-        aStarPathConnections.clear();
-        aStarPathTotalWeight = 0.0;
-
-        while (cameFrom.containsKey(current)) {
-            Vertex previous = cameFrom.get(current);
-            Connection connection = findConnectionBetween(previous, current);
-            if (connection != null) {
-                aStarPathConnections.add(0, connection);
-                aStarPathTotalWeight += connection.getWeight();
-            }
-            current = previous;
-        }
-
+    // Preenche as variáveis de visualização com o caminho encontrado
+    private void showAStarPath(List<Connection> pathConnections, double totalWeight) {
+        aStarPathConnections = pathConnections;
+        aStarPathTotalWeight = totalWeight;
         showAStarPath = true;
         repaint();
     }
 
 
     // Exibe o diálogo com o resultado
-    private void showAStarResultDialog(Vertex start, Vertex end,
-                                       Map<Vertex, Double> gScore, Map<Vertex, Double> hScore) {
+    private void showAStarResultDialog(Vertex start, Vertex end) {
+        StringBuilder pathString = describeAStarPath(start);
+        pathString.append(String.format("Custo Total g(n): %.2f\n", aStarPathTotalWeight));
+        pathString.append(String.format("Heurística h(n) do destino: %.2f\n", heuristic(end, end)));
+        pathString.append(String.format("Número de conexões: %d\n", aStarPathConnections.size()));
+
+        if (end.hasGeographicCoordinates()) {
+            pathString.append("\nCoordenadas do destino:\n");
+            pathString.append(String.format("  Latitude: %.4f\n", end.getLatitude()));
+            pathString.append(String.format("  Longitude: %.4f\n", end.getLongitude()));
+        }
+
+        JOptionPane.showMessageDialog(
+                this,
+                pathString.toString(),
+                "Resultado do Algoritmo A*",
+                JOptionPane.INFORMATION_MESSAGE
+        );
+    }
+
+
+    // Sequência de vértices e pesos do caminho destacado
+    private StringBuilder describeAStarPath(Vertex start) {
         StringBuilder pathString = new StringBuilder();
         pathString.append("Caminho mais curto encontrado:\n\n");
 
@@ -2126,20 +2318,70 @@ public class GraphPanel extends JPanel {
         }
 
         pathString.append("\n\n");
-        pathString.append(String.format("Custo Total g(n): %.2f\n", aStarPathTotalWeight));
-        pathString.append(String.format("Heurística h(n) do destino: %.2f\n", hScore.get(end)));
-        pathString.append(String.format("Número de conexões: %d\n", aStarPathConnections.size()));
+        return pathString;
+    }
 
-        if (end.hasGeographicCoordinates()) {
-            pathString.append("\nCoordenadas do destino:\n");
-            pathString.append(String.format("  Latitude: %.4f\n", end.getLatitude()));
-            pathString.append(String.format("  Longitude: %.4f\n", end.getLongitude()));
+
+    /**
+     * Rota mínima pela Contraction Hierarchy. O pré-processamento é feito na primeira
+     * consulta e reaproveitado enquanto o grafo não mudar; os atalhos são desempacotados
+     * nas ligações originais e destacados como o caminho do A*.
+     */
+    public void applyContractionHierarchyRoute() {
+        if (vertexList.size() < 2) {
+            JOptionPane.showMessageDialog(this, "O grafo precisa de pelo menos dois vértices.", "Erro - Contraction Hierarchies", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        String[] vertexIds = vertexList.stream().map(Vertex::getId).toArray(String[]::new);
+
+        String startVertexId = (String) JOptionPane.showInputDialog(
+                this, "Selecione o vértice INICIAL:", "Contraction Hierarchies - Ponto de Partida",
+                JOptionPane.QUESTION_MESSAGE, null, vertexIds, vertexIds[0]);
+        if (startVertexId == null) return;
+
+        String endVertexId = (String) JOptionPane.showInputDialog(
+                this, "Selecione o vértice FINAL:", "Contraction Hierarchies - Ponto de Chegada",
+                JOptionPane.QUESTION_MESSAGE, null, vertexIds, vertexIds[1]);
+        if (endVertexId == null) return;
+
+        Vertex startNode = findVertexById(startVertexId);
+        Vertex endNode = findVertexById(endVertexId);
+
+        GraphSnapshot graph = GraphSnapshot.of(vertexList, connectionList);
+        long preprocessingMs = -1;
+        if (contractionHierarchy == null || !contractionHierarchy.matches(graph)) {
+            long start = System.nanoTime();
+            try {
+                contractionHierarchy = ContractionHierarchy.build(graph);
+            } catch (IllegalArgumentException e) {
+                JOptionPane.showMessageDialog(this, e.getMessage(), "Erro - Contraction Hierarchies", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+            preprocessingMs = (System.nanoTime() - start) / 1_000_000;
+        }
+
+        PathResult result = contractionHierarchy.findPath(startNode, endNode);
+        if (!result.isFound()) {
+            JOptionPane.showMessageDialog(this, "Não foi possível encontrar um caminho de " + startVertexId + " para " + endVertexId + ".", "Caminho Não Encontrado", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        showAStarPath(result.getConnections(), result.getCost());
+
+        StringBuilder pathString = describeAStarPath(startNode);
+        pathString.append(String.format("Custo Total: %.2f\n", result.getCost()));
+        pathString.append(String.format("Número de conexões: %d\n", result.getConnectionCount()));
+        pathString.append(String.format("Vértices fechados na consulta: %d\n", result.getSettledCount()));
+        pathString.append(String.format("Atalhos na hierarquia: %d\n", contractionHierarchy.getShortcutCount()));
+        if (preprocessingMs >= 0) {
+            pathString.append(String.format("Pré-processamento: %d ms\n", preprocessingMs));
         }
 
         JOptionPane.showMessageDialog(
                 this,
                 pathString.toString(),
-                "Resultado do Algoritmo A*",
+                "Resultado - Contraction Hierarchies",
                 JOptionPane.INFORMATION_MESSAGE
         );
     }
@@ -16,7 +16,7 @@ public class MenuBar extends JMenuBar {
     private final JMenuItem jMenuItemOpen, jMenuItemSave, jMenuItemClear;
     private final JMenuItem jMenuItemAdjMatrix, jMenuItemIncMatrix;
     private final JMenuItem jMenuItemCheckAdjacency, jMenuItemPrim, jMenuItemBfs, jMenuItemDfs, jMenuItemConexo;
-    private final JMenuItem jMenuItemPlanarEuler, jMenuItemPlanarTarjan, jMenuItemWP, jMenuItemAstar, jMenuItemPCV;
+    private final JMenuItem jMenuItemPlanarEuler, jMenuItemPlanarTarjan, jMenuItemWP, jMenuItemAstar, jMenuItemAlt, jMenuItemCH, jMenuItemPCV;
     public MenuBar(Interface ui) {
         this.ui = ui;
         fileManager = new FileManager(ui);
@@ -43,6 +43,8 @@ public class MenuBar extends JMenuBar {
         jMenuSearch.add(jMenuItemBfs = new JMenuItem("BFS"));
         jMenuSearch.add(jMenuItemDfs = new JMenuItem("DFS"));
         jMenuSearch.add(jMenuItemAstar = new JMenuItem("A*"));
+        jMenuSearch.add(jMenuItemAlt = new JMenuItem("Marcos ALT (pré-processar)"));
+        jMenuSearch.add(jMenuItemCH = new JMenuItem("Rota (Contraction Hierarchies)"));
         add(jMenuSearch);
         setupActionListeners();
     }
@@ -76,6 +78,10 @@ public class MenuBar extends JMenuBar {
 
         jMenuItemAstar.addActionListener(_ -> aStar());
 
+        jMenuItemAlt.addActionListener(_ -> ui.getGraphPanel().computeLandmarks());
+
+        jMenuItemCH.addActionListener(_ -> contractionHierarchyRoute());
+
         jMenuItemPCV.addActionListener(_ -> pCV());
     }
 
@@ -98,6 +104,12 @@ public class MenuBar extends JMenuBar {
         graphPanel.applyAStarAlgorithm();
     }
 
+    private void contractionHierarchyRoute() {
+        GraphPanel graphPanel = ui.getGraphPanel();
+        graphPanel.clearAllAlgorithmVisualizations();
+        graphPanel.applyContractionHierarchyRoute();
+    }
+
     private void welshPowell() {
         GraphPanel graphPanel = ui.getGraphPanel();
         graphPanel.clearAllAlgorithmVisualizations();